@@ -0,0 +1,220 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Esta clase agrupa las operaciones de conjuntos (unión, intersección, diferencia y diferencia simétrica) sobre arreglos de cadenas ordenados y sin repetidos.
+ *
+ * Cada operación es un solo recorrido simultáneo de los dos arreglos, en O(n + m), en lugar de una búsqueda en un árbol por cada cadena. Cuando los arreglos son grandes
+ * se parten en rangos de llaves: se eligen cadenas pivote repartidas a lo largo del arreglo más grande, se ubica cada pivote en el otro arreglo con búsqueda binaria, y
+ * cada par de rangos se combina en paralelo en el pool de fork/join. Como los rangos no se traslapan, los resultados parciales sólo se concatenan.
+ *
+ * Cada operación tiene una versión que recibe el comparador con el que están ordenados los dos arreglos. Con un comparador la combinación se hace en un solo hilo, para no
+ * exigir que el comparador pueda usarse desde varios hilos a la vez.
+ */
+public final class AlgebraConjuntos
+{
+    /**
+     * La cantidad de rangos por cada hilo del pool, para repartir mejor el trabajo cuando los rangos quedan desbalanceados
+     */
+    private static final int RANGOS_POR_HILO = 4;
+
+    private AlgebraConjuntos( )
+    {
+    }
+
+    /**
+     * Calcula la unión de dos conjuntos
+     * @param primero Las cadenas del primer conjunto, ordenadas y sin repetidos
+     * @param segundo Las cadenas del segundo conjunto, ordenadas y sin repetidos
+     * @return Las cadenas que están en alguno de los dos conjuntos, ordenadas y sin repetidos
+     */
+    public static String[] unir( String[] primero, String[] segundo )
+    {
+        return unir( primero, segundo, null );
+    }
+
+    /**
+     * Calcula la unión de dos conjuntos ordenados con un comparador
+     * @param primero Las cadenas del primer conjunto, ordenadas con el comparador y sin repetidos
+     * @param segundo Las cadenas del segundo conjunto, ordenadas con el comparador y sin repetidos
+     * @param comparador El orden de los dos arreglos, o null si están en el orden natural de String
+     * @return Las cadenas que están en alguno de los dos conjuntos, ordenadas y sin repetidos
+     */
+    public static String[] unir( String[] primero, String[] segundo, Comparator<? super String> comparador )
+    {
+        return combinar( primero, segundo, comparador, true, true, true );
+    }
+
+    /**
+     * Calcula la intersección de dos conjuntos
+     * @param primero Las cadenas del primer conjunto, ordenadas y sin repetidos
+     * @param segundo Las cadenas del segundo conjunto, ordenadas y sin repetidos
+     * @return Las cadenas que están en los dos conjuntos, ordenadas
+     */
+    public static String[] intersectar( String[] primero, String[] segundo )
+    {
+        return intersectar( primero, segundo, null );
+    }
+
+    /**
+     * Calcula la intersección de dos conjuntos ordenados con un comparador
+     * @param primero Las cadenas del primer conjunto, ordenadas con el comparador y sin repetidos
+     * @param segundo Las cadenas del segundo conjunto, ordenadas con el comparador y sin repetidos
+     * @param comparador El orden de los dos arreglos, o null si están en el orden natural de String
+     * @return Las cadenas que están en los dos conjuntos, ordenadas
+     */
+    public static String[] intersectar( String[] primero, String[] segundo, Comparator<? super String> comparador )
+    {
+        return combinar( primero, segundo, comparador, false, true, false );
+    }
+
+    /**
+     * Calcula la diferencia de dos conjuntos
+     * @param primero Las cadenas del primer conjunto, ordenadas y sin repetidos
+     * @param segundo Las cadenas del segundo conjunto, ordenadas y sin repetidos
+     * @return Las cadenas del primer conjunto que no están en el segundo, ordenadas
+     */
+    public static String[] restar( String[] primero, String[] segundo )
+    {
+        return restar( primero, segundo, null );
+    }
+
+    /**
+     * Calcula la diferencia de dos conjuntos ordenados con un comparador
+     * @param primero Las cadenas del primer conjunto, ordenadas con el comparador y sin repetidos
+     * @param segundo Las cadenas del segundo conjunto, ordenadas con el comparador y sin repetidos
+     * @param comparador El orden de los dos arreglos, o null si están en el orden natural de String
+     * @return Las cadenas del primer conjunto que no están en el segundo, ordenadas
+     */
+    public static String[] restar( String[] primero, String[] segundo, Comparator<? super String> comparador )
+    {
+        return combinar( primero, segundo, comparador, true, false, false );
+    }
+
+    /**
+     * Calcula la diferencia simétrica de dos conjuntos
+     * @param primero Las cadenas del primer conjunto, ordenadas y sin repetidos
+     * @param segundo Las cadenas del segundo conjunto, ordenadas y sin repetidos
+     * @return Las cadenas que están en exactamente uno de los dos conjuntos, ordenadas
+     */
+    public static String[] diferenciaSimetrica( String[] primero, String[] segundo )
+    {
+        return diferenciaSimetrica( primero, segundo, null );
+    }
+
+    /**
+     * Calcula la diferencia simétrica de dos conjuntos ordenados con un comparador
+     * @param primero Las cadenas del primer conjunto, ordenadas con el comparador y sin repetidos
+     * @param segundo Las cadenas del segundo conjunto, ordenadas con el comparador y sin repetidos
+     * @param comparador El orden de los dos arreglos, o null si están en el orden natural de String
+     * @return Las cadenas que están en exactamente uno de los dos conjuntos, ordenadas
+     */
+    public static String[] diferenciaSimetrica( String[] primero, String[] segundo, Comparator<? super String> comparador )
+    {
+        return combinar( primero, segundo, comparador, true, false, true );
+    }
+
+    /**
+     * Combina dos arreglos ordenados, conservando las cadenas según el conjunto donde aparecen
+     * @param comparador El orden de los arreglos, o null para el orden natural
+     * @param soloPrimero Indica si se conservan las cadenas que sólo están en el primer arreglo
+     * @param ambos Indica si se conservan las cadenas que están en los dos arreglos
+     * @param soloSegundo Indica si se conservan las cadenas que sólo están en el segundo arreglo
+     * @return Las cadenas conservadas, ordenadas
+     */
+    private static String[] combinar( String[] primero, String[] segundo, Comparator<? super String> comparador, boolean soloPrimero, boolean ambos, boolean soloSegundo )
+    {
+        if( comparador != null || primero.length + segundo.length < CargaMasiva.UMBRAL_PARALELO )
+        {
+            return combinarRango( primero, 0, primero.length, segundo, 0, segundo.length, comparador, soloPrimero, ambos, soloSegundo );
+        }
+
+        // Los pivotes salen del arreglo más grande, para que los rangos tengan tamaños parecidos
+        boolean pivotesDelPrimero = primero.length >= segundo.length;
+        String[] grande = pivotesDelPrimero ? primero : segundo;
+        String[] pequenio = pivotesDelPrimero ? segundo : primero;
+        int rangos = Math.min( ForkJoinPool.getCommonPoolParallelism( ) * RANGOS_POR_HILO, Math.max( 1, grande.length / 1024 ) );
+        int[] cortesGrande = new int[rangos + 1];
+        int[] cortesPequenio = new int[rangos + 1];
+        for( int i = 1; i < rangos; i++ )
+        {
+            cortesGrande[ i ] = (int) ( (long)grande.length * i / rangos );
+            int posicion = Arrays.binarySearch( pequenio, grande[ cortesGrande[ i ] ] );
+            cortesPequenio[ i ] = posicion >= 0 ? posicion : -posicion - 1;
+        }
+        cortesGrande[ rangos ] = grande.length;
+        cortesPequenio[ rangos ] = pequenio.length;
+
+        int[] cortesPrimero = pivotesDelPrimero ? cortesGrande : cortesPequenio;
+        int[] cortesSegundo = pivotesDelPrimero ? cortesPequenio : cortesGrande;
+        String[][] partes = IntStream.range( 0, rangos ).parallel( )
+                .mapToObj( i -> combinarRango( primero, cortesPrimero[ i ], cortesPrimero[ i + 1 ], segundo, cortesSegundo[ i ], cortesSegundo[ i + 1 ], null, soloPrimero, ambos, soloSegundo ) )
+                .toArray( String[][]::new );
+
+        int total = 0;
+        for( String[] parte : partes )
+        {
+            total += parte.length;
+        }
+        String[] resultado = new String[total];
+        int posicion = 0;
+        for( String[] parte : partes )
+        {
+            System.arraycopy( parte, 0, resultado, posicion, parte.length );
+            posicion += parte.length;
+        }
+        return resultado;
+    }
+
+    /**
+     * Combina las cadenas de primero[desdePrimero, hastaPrimero) con las de segundo[desdeSegundo, hastaSegundo) en un solo recorrido
+     */
+    private static String[] combinarRango( String[] primero, int desdePrimero, int hastaPrimero, String[] segundo, int desdeSegundo, int hastaSegundo,
+            Comparator<? super String> comparador, boolean soloPrimero, boolean ambos, boolean soloSegundo )
+    {
+        // Las cadenas que se conservan del primer arreglo (solas o en ambos) no pueden ser más que las del primer rango
+        int maximo = ( soloPrimero || ambos ? hastaPrimero - desdePrimero : 0 ) + ( soloSegundo ? hastaSegundo - desdeSegundo : 0 );
+        String[] resultado = new String[maximo];
+        int cantidad = 0;
+        int i = desdePrimero;
+        int j = desdeSegundo;
+        while( i < hastaPrimero && j < hastaSegundo )
+        {
+            int comparacion = comparador == null ? primero[ i ].compareTo( segundo[ j ] ) : comparador.compare( primero[ i ], segundo[ j ] );
+            if( comparacion < 0 )
+            {
+                if( soloPrimero )
+                    resultado[ cantidad++ ] = primero[ i ];
+                i++;
+            }
+            else if( comparacion > 0 )
+            {
+                if( soloSegundo )
+                    resultado[ cantidad++ ] = segundo[ j ];
+                j++;
+            }
+            else
+            {
+                if( ambos )
+                    resultado[ cantidad++ ] = primero[ i ];
+                i++;
+                j++;
+            }
+        }
+        if( soloPrimero )
+        {
+            System.arraycopy( primero, i, resultado, cantidad, hastaPrimero - i );
+            cantidad += hastaPrimero - i;
+        }
+        if( soloSegundo )
+        {
+            System.arraycopy( segundo, j, resultado, cantidad, hastaSegundo - j );
+            cantidad += hastaSegundo - j;
+        }
+        return cantidad == resultado.length ? resultado : Arrays.copyOf( resultado, cantidad );
+    }
+}
@@ -0,0 +1,180 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * Esta clase es un conjunto ordenado de cadenas implementado con un árbol de estadísticos de orden: un treap donde cada nodo conoce el tamaño de su subárbol.
+ *
+ * Con los tamaños de los subárboles, además de agregar, eliminar y buscar, pueden responderse en O(log n) esperado la posición de una cadena en el orden (rango), la
+ * cantidad de cadenas en un intervalo (contarEntre) y la cadena que está en una posición (getPorPosicion), sin recorrer las cadenas intermedias.
+ *
+ * Las cadenas se ordenan lexicográficamente, con String.compareTo, a menos que el conjunto se cree con otro comparador. Para agregar o eliminar una cadena se calcula
+ * primero su rango, y luego se inserta o se elimina por posición con las operaciones de NodoTreap, que no comparan cadenas.
+ */
+public class ArbolEstadisticoCadenas
+{
+    /**
+     * La raíz del árbol, o null si el conjunto está vacío
+     */
+    private NodoTreap<String> raiz;
+
+    /**
+     * El orden de las cadenas
+     */
+    private final Comparator<? super String> orden;
+
+    /**
+     * Crea un conjunto vacío
+     */
+    public ArbolEstadisticoCadenas( )
+    {
+        raiz = null;
+        orden = Comparator.naturalOrder( );
+    }
+
+    /**
+     * Crea un conjunto con las cadenas de la colección. La construcción cuesta O(n) porque no compara las cadenas.
+     * @param ordenadas Las cadenas iniciales, ordenadas lexicográficamente y sin repetidos (por ejemplo, un TreeSet)
+     */
+    public ArbolEstadisticoCadenas( Collection<String> ordenadas )
+    {
+        this( ordenadas, null );
+    }
+
+    /**
+     * Crea un conjunto ordenado con un comparador, con las cadenas de la colección. La construcción cuesta O(n) porque no compara las cadenas.
+     * @param ordenadas Las cadenas iniciales, ordenadas con el comparador y sin repetidos
+     * @param comparador El orden de las cadenas, o null para el orden lexicográfico. Sólo debe considerar iguales a las cadenas iguales.
+     */
+    public ArbolEstadisticoCadenas( Collection<String> ordenadas, Comparator<? super String> comparador )
+    {
+        String[] cadenas = ordenadas.toArray( new String[0] );
+        raiz = NodoTreap.construir( cadenas, 0, cadenas.length );
+        orden = comparador != null ? comparador : Comparator.naturalOrder( );
+    }
+
+    /**
+     * Retorna la cantidad de cadenas en el conjunto
+     * @return La cantidad de cadenas
+     */
+    public int getTamanio( )
+    {
+        return NodoTreap.tamanio( raiz );
+    }
+
+    /**
+     * Agrega una cadena al conjunto
+     * @param cadena La cadena que se agrega
+     * @return True si la cadena no estaba en el conjunto
+     */
+    public boolean agregar( String cadena )
+    {
+        int posicion = rango( cadena );
+        if( estaEn( cadena, posicion ) )
+        {
+            return false;
+        }
+        raiz = NodoTreap.insertar( raiz, posicion, new NodoTreap<String>( cadena ) );
+        return true;
+    }
+
+    /**
+     * Elimina una cadena del conjunto
+     * @param cadena La cadena que se elimina
+     * @return True si la cadena estaba en el conjunto
+     */
+    public boolean eliminar( String cadena )
+    {
+        int posicion = rango( cadena );
+        if( !estaEn( cadena, posicion ) )
+        {
+            return false;
+        }
+        raiz = NodoTreap.eliminar( raiz, posicion );
+        return true;
+    }
+
+    /**
+     * Indica si la cadena está en el conjunto
+     * @param cadena La cadena buscada
+     * @return True si la cadena está en el conjunto
+     */
+    public boolean contiene( String cadena )
+    {
+        NodoTreap<String> nodo = raiz;
+        while( nodo != null )
+        {
+            int comparacion = orden.compare( cadena, nodo.valor );
+            if( comparacion == 0 )
+            {
+                return true;
+            }
+            nodo = comparacion < 0 ? nodo.izquierdo : nodo.derecho;
+        }
+        return false;
+    }
+
+    /**
+     * Retorna la cantidad de cadenas del conjunto que son menores a la cadena dada. Si la cadena está en el conjunto, es su posición en el orden.
+     * @param cadena La cadena de referencia. No tiene que estar en el conjunto.
+     * @return La cantidad de cadenas menores a la cadena
+     */
+    public int rango( String cadena )
+    {
+        int menores = 0;
+        NodoTreap<String> nodo = raiz;
+        while( nodo != null )
+        {
+            int comparacion = orden.compare( cadena, nodo.valor );
+            if( comparacion <= 0 )
+            {
+                nodo = nodo.izquierdo;
+            }
+            else
+            {
+                menores += NodoTreap.tamanio( nodo.izquierdo ) + 1;
+                nodo = nodo.derecho;
+            }
+        }
+        return menores;
+    }
+
+    /**
+     * Retorna la cantidad de cadenas del conjunto que son mayores o iguales a 'desde' y menores a 'hasta'
+     * @param desde El inicio del intervalo, incluido
+     * @param hasta El final del intervalo, excluido
+     * @return La cantidad de cadenas en el intervalo, o 0 si 'desde' es mayor o igual a 'hasta'
+     */
+    public int contarEntre( String desde, String hasta )
+    {
+        if( orden.compare( desde, hasta ) >= 0 )
+        {
+            return 0;
+        }
+        return rango( hasta ) - rango( desde );
+    }
+
+    /**
+     * Retorna la cadena que está en una posición del orden
+     * @param posicion La posición de la cadena, desde 0
+     * @return La cadena en la posición
+     * @throws IndexOutOfBoundsException Si la posición no está entre 0 y getTamanio() - 1
+     */
+    public String getPorPosicion( int posicion )
+    {
+        if( posicion < 0 || posicion >= NodoTreap.tamanio( raiz ) )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + NodoTreap.tamanio( raiz ) );
+        }
+        return NodoTreap.buscar( raiz, posicion ).valor;
+    }
+
+    /**
+     * Indica si la cadena está en la posición dada, que debe ser su rango. Busca por posición, así que no compara cadenas en el camino.
+     */
+    private boolean estaEn( String cadena, int posicion )
+    {
+        return posicion < NodoTreap.tamanio( raiz ) && orden.compare( NodoTreap.buscar( raiz, posicion ).valor, cadena ) == 0;
+    }
+}
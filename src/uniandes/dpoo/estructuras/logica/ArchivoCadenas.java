@@ -0,0 +1,99 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Esta clase guarda conjuntos de cadenas compactos en archivos (tablas ordenadas de cadenas) y los vuelve a abrir mapeando el archivo en memoria.
+ *
+ * El archivo tiene un encabezado de 8 bytes (el número mágico MAGIA y la versión del formato) seguido de los bytes del ConjuntoCadenasCompacto: el índice de bloques y los
+ * bloques comprimidos por prefijos. Al abrir el archivo no se lee ni se copia ninguna cadena: el conjunto compacto trabaja directamente sobre el archivo mapeado, y el
+ * sistema operativo sólo carga las páginas que las consultas tocan. Por eso abrir un archivo cuesta lo mismo sin importar cuántas cadenas tenga.
+ */
+public final class ArchivoCadenas
+{
+    /**
+     * El número mágico al inicio de los archivos ("TCAD" en ASCII)
+     */
+    public static final int MAGIA = 0x54434144;
+
+    /**
+     * La versión del formato de los archivos
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * El tamaño del encabezado del archivo
+     */
+    private static final int ENCABEZADO = 8;
+
+    private ArchivoCadenas( )
+    {
+    }
+
+    /**
+     * Guarda un conjunto compacto en un archivo. Si el archivo existe, se reemplaza su contenido.
+     * @param ruta La ruta del archivo
+     * @param compacto El conjunto que se guarda
+     * @throws IOException Si no se pudo escribir el archivo
+     */
+    public static void escribir( Path ruta, ConjuntoCadenasCompacto compacto ) throws IOException
+    {
+        ByteBuffer encabezado = ByteBuffer.allocate( ENCABEZADO );
+        encabezado.putInt( MAGIA ).putInt( VERSION ).flip( );
+        ByteBuffer contenido = compacto.getBytes( );
+        try( FileChannel canal = FileChannel.open( ruta, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE ) )
+        {
+            while( encabezado.hasRemaining( ) )
+            {
+                canal.write( encabezado );
+            }
+            while( contenido.hasRemaining( ) )
+            {
+                canal.write( contenido );
+            }
+            canal.force( false );
+        }
+    }
+
+    /**
+     * Abre un archivo guardado con escribir, mapeándolo en memoria. El mapeo sigue siendo válido después de que el método cierra el archivo.
+     * @param ruta La ruta del archivo
+     * @return Un conjunto compacto que lee sus cadenas directamente del archivo
+     * @throws IOException Si no se pudo leer el archivo o no tiene el formato esperado
+     */
+    public static ConjuntoCadenasCompacto abrir( Path ruta ) throws IOException
+    {
+        MappedByteBuffer mapeado;
+        try( FileChannel canal = FileChannel.open( ruta, StandardOpenOption.READ ) )
+        {
+            long tamanio = canal.size( );
+            if( tamanio < ENCABEZADO || tamanio > Integer.MAX_VALUE )
+            {
+                throw new IOException( "El archivo no es una tabla de cadenas: " + ruta );
+            }
+            mapeado = canal.map( FileChannel.MapMode.READ_ONLY, 0, tamanio );
+        }
+        if( mapeado.getInt( 0 ) != MAGIA )
+        {
+            throw new IOException( "El archivo no es una tabla de cadenas: " + ruta );
+        }
+        if( mapeado.getInt( 4 ) != VERSION )
+        {
+            throw new IOException( "La versión del archivo no es compatible: " + mapeado.getInt( 4 ) );
+        }
+        mapeado.position( ENCABEZADO );
+        try
+        {
+            return new ConjuntoCadenasCompacto( mapeado.slice( ) );
+        }
+        catch( IllegalArgumentException e )
+        {
+            throw new IOException( "El archivo de cadenas está dañado: " + ruta, e );
+        }
+    }
+}
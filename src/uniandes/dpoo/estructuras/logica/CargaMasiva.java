@@ -0,0 +1,366 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Esta clase agrupa las operaciones para cargar grandes cantidades de cadenas en las estructuras de los sandboxes.
+ *
+ * La conversión de objetos a cadenas se hace en paralelo por bloques cuando hay suficientes objetos, y las estructuras se construyen de una sola vez con el tamaño correcto:
+ * las listas a partir de un arreglo, los mapas con la tabla ya dimensionada y los árboles a partir de los datos ordenados, en O(n).
+ */
+public final class CargaMasiva
+{
+    /**
+     * La cantidad de elementos a partir de la cual vale la pena repartir el trabajo entre varios hilos
+     */
+    static final int UMBRAL_PARALELO = 1 << 13;
+
+    private CargaMasiva( )
+    {
+    }
+
+    /**
+     * Convierte cada objeto de la lista en su representación como String, usando el método toString
+     * @param objetos Los objetos que se convierten
+     * @return Un arreglo con las cadenas, en el mismo orden que los objetos
+     */
+    public static String[] convertirCadenas( List<?> objetos )
+    {
+        Object[] arreglo = objetos.toArray( );
+        String[] cadenas = new String[arreglo.length];
+        if( arreglo.length >= UMBRAL_PARALELO )
+        {
+            Arrays.parallelSetAll( cadenas, i -> arreglo[ i ].toString( ) );
+        }
+        else
+        {
+            for( int i = 0; i < arreglo.length; i++ )
+            {
+                cadenas[ i ] = arreglo[ i ].toString( );
+            }
+        }
+        return cadenas;
+    }
+
+    /**
+     * Construye una lista con las cadenas del arreglo
+     * @param cadenas Las cadenas de la lista
+     * @return Una lista con las cadenas, en el mismo orden que el arreglo
+     */
+    public static List<String> construirLista( String[] cadenas )
+    {
+        return new ArrayList<String>( Arrays.asList( cadenas ) );
+    }
+
+    /**
+     * Construye un mapa donde cada cadena está asociada a sí misma. La tabla se dimensiona desde el principio para que no tenga que crecer durante la carga.
+     * @param cadenas Las cadenas del mapa
+     * @return Un mapa donde cada cadena es llave y valor
+     */
+    public static Map<String, String> construirMapa( String[] cadenas )
+    {
+        return construirMapa( cadenas, Function.identity( ) );
+    }
+
+    /**
+     * Construye un mapa donde cada cadena está asociada a la llave que se calcula a partir de ella. La tabla se dimensiona desde el principio.
+     * @param cadenas Las cadenas del mapa, que son los valores
+     * @param llave La función que calcula la llave de cada cadena
+     * @return Un mapa donde cada cadena es el valor de su llave
+     */
+    public static <K> Map<K, String> construirMapa( String[] cadenas, Function<String, K> llave )
+    {
+        Map<K, String> mapa = new HashMap<K, String>( capacidadPara( cadenas.length ) );
+        for( String cadena : cadenas )
+        {
+            mapa.put( llave.apply( cadena ), cadena );
+        }
+        return mapa;
+    }
+
+    /**
+     * Construye un árbol con las cadenas del arreglo, ordenándolo y eliminando las repetidas primero. El arreglo se modifica.
+     *
+     * El árbol se construye directamente a partir de los datos ordenados, en O(n), en lugar de insertar las cadenas una por una.
+     * @param cadenas Las cadenas del árbol. Pueden estar repetidas y en cualquier orden.
+     * @return Un árbol con las cadenas sin repetir
+     */
+    public static TreeSet<String> construirArbol( String[] cadenas )
+    {
+        return construirArbol( cadenas, null );
+    }
+
+    /**
+     * Construye un árbol ordenado con un comparador, a partir de las cadenas del arreglo. El arreglo se modifica.
+     *
+     * Con un comparador el arreglo se ordena en un solo hilo, para no exigir que el comparador pueda usarse desde varios hilos a la vez.
+     * @param cadenas Las cadenas del árbol. Pueden estar repetidas y en cualquier orden.
+     * @param comparador El orden del árbol, o null para el orden natural. Sólo debe considerar iguales a las cadenas iguales.
+     * @return Un árbol con las cadenas sin repetir, que usa el comparador
+     */
+    public static TreeSet<String> construirArbol( String[] cadenas, Comparator<? super String> comparador )
+    {
+        return construirArbolOrdenado( cadenas, ordenarSinRepetidas( cadenas, comparador ), comparador );
+    }
+
+    /**
+     * Ordena las cadenas del arreglo y mueve las cadenas diferentes al principio. Con un comparador el arreglo se ordena en un solo hilo.
+     * @param cadenas Las cadenas. Pueden estar repetidas y en cualquier orden. El arreglo se modifica.
+     * @param comparador El orden, o null para el orden natural
+     * @return La cantidad de cadenas diferentes, que quedan ordenadas en las primeras posiciones del arreglo
+     */
+    static int ordenarSinRepetidas( String[] cadenas, Comparator<? super String> comparador )
+    {
+        if( comparador != null )
+        {
+            Arrays.sort( cadenas, comparador );
+        }
+        else if( cadenas.length >= UMBRAL_PARALELO )
+        {
+            Arrays.parallelSort( cadenas );
+        }
+        else
+        {
+            Arrays.sort( cadenas );
+        }
+        return eliminarRepetidas( cadenas );
+    }
+
+    /**
+     * Construye un árbol en O(n) con las primeras cadenas de un arreglo que ya está ordenado con un comparador y no tiene repetidas
+     * @param ordenadas El arreglo ordenado con el comparador y sin repetidas. No se modifica.
+     * @param cantidad La cantidad de cadenas del arreglo que se usan, desde la posición 0
+     * @param comparador El orden del arreglo y del árbol, o null para el orden natural
+     * @return Un árbol con las cadenas, que usa el comparador
+     */
+    public static TreeSet<String> construirArbolOrdenado( String[] ordenadas, int cantidad, Comparator<? super String> comparador )
+    {
+        return new TreeSet<String>( new ArregloOrdenado( ordenadas, 0, cantidad, comparador ) );
+    }
+
+    /**
+     * Construye un ConcurrentSkipListSet con las primeras cadenas de un arreglo que ya está ordenado lexicográficamente y no tiene repetidas, sin construir antes otro
+     * conjunto.
+     *
+     * ConcurrentSkipListSet no tiene un constructor que aproveche los datos ordenados, así que cada cadena se inserta con O(log n) comparaciones y la construcción cuesta
+     * O(n log n). Cuando hay suficientes cadenas se insertan en paralelo por bloques, porque el conjunto admite inserciones desde varios hilos.
+     * @param ordenadas El arreglo ordenado y sin repetidas. No se modifica.
+     * @param cantidad La cantidad de cadenas del arreglo que se usan, desde la posición 0
+     * @return Un conjunto concurrente con las cadenas
+     */
+    public static ConcurrentSkipListSet<String> construirListaSaltos( String[] ordenadas, int cantidad )
+    {
+        ConcurrentSkipListSet<String> conjunto = new ConcurrentSkipListSet<String>( );
+        if( cantidad >= UMBRAL_PARALELO )
+        {
+            Arrays.stream( ordenadas, 0, cantidad ).parallel( ).forEach( conjunto::add );
+        }
+        else
+        {
+            for( int i = 0; i < cantidad; i++ )
+            {
+                conjunto.add( ordenadas[ i ] );
+            }
+        }
+        return conjunto;
+    }
+
+    /**
+     * Aplica una transformación a cada cadena de la colección, en paralelo por bloques cuando hay suficientes cadenas
+     * @param cadenas Las cadenas originales
+     * @param transformacion La transformación que se aplica a cada cadena
+     * @return Un arreglo con las cadenas transformadas, en el orden en que la colección recorre las originales
+     */
+    public static String[] transformarCadenas( Collection<String> cadenas, UnaryOperator<String> transformacion )
+    {
+        String[] transformadas = cadenas.toArray( new String[0] );
+        if( transformadas.length >= UMBRAL_PARALELO )
+        {
+            Arrays.parallelSetAll( transformadas, i -> transformacion.apply( transformadas[ i ] ) );
+        }
+        else
+        {
+            for( int i = 0; i < transformadas.length; i++ )
+            {
+                transformadas[ i ] = transformacion.apply( transformadas[ i ] );
+            }
+        }
+        return transformadas;
+    }
+
+    /**
+     * Elimina las cadenas repetidas de un arreglo ordenado, moviendo las cadenas diferentes al principio
+     * @param cadenas Un arreglo ordenado
+     * @return La cantidad de cadenas diferentes, que quedan en las primeras posiciones del arreglo
+     */
+    static int eliminarRepetidas( String[] cadenas )
+    {
+        int diferentes = 0;
+        for( int i = 0; i < cadenas.length; i++ )
+        {
+            if( diferentes == 0 || !cadenas[ i ].equals( cadenas[ diferentes - 1 ] ) )
+            {
+                cadenas[ diferentes++ ] = cadenas[ i ];
+            }
+        }
+        return diferentes;
+    }
+
+    /**
+     * Calcula la capacidad inicial de un HashMap para que pueda recibir una cantidad de elementos sin crecer
+     */
+    static int capacidadPara( int elementos )
+    {
+        return (int)Math.min( Integer.MAX_VALUE, (long) ( elementos / 0.75f ) + 1 );
+    }
+
+    /**
+     * Un conjunto ordenado de sólo lectura sobre un rango de posiciones de un arreglo ordenado y sin repetidos.
+     *
+     * Existe para que el constructor de TreeSet reconozca que los datos ya están ordenados y construya el árbol en O(n). contains y los sub-conjuntos (subSet, headSet,
+     * tailSet) cuestan O(log n) y no copian nada: los sub-conjuntos son otras vistas sobre el mismo arreglo.
+     */
+    private static final class ArregloOrdenado extends AbstractSet<String> implements SortedSet<String>
+    {
+        private final String[] cadenas;
+
+        /**
+         * La posición de la primera cadena de la vista
+         */
+        private final int inicio;
+
+        /**
+         * La posición siguiente a la última cadena de la vista
+         */
+        private final int fin;
+
+        private final Comparator<? super String> comparador;
+
+        private ArregloOrdenado( String[] cadenas, int inicio, int fin, Comparator<? super String> comparador )
+        {
+            this.cadenas = cadenas;
+            this.inicio = inicio;
+            this.fin = fin;
+            this.comparador = comparador;
+        }
+
+        @Override
+        public int size( )
+        {
+            return fin - inicio;
+        }
+
+        @Override
+        public boolean contains( Object objeto )
+        {
+            return objeto instanceof String && Arrays.binarySearch( cadenas, inicio, fin, (String)objeto, comparador ) >= 0;
+        }
+
+        @Override
+        public Iterator<String> iterator( )
+        {
+            return new Iterator<String>( )
+            {
+                private int siguiente = inicio;
+
+                @Override
+                public boolean hasNext( )
+                {
+                    return siguiente < fin;
+                }
+
+                @Override
+                public String next( )
+                {
+                    if( siguiente >= fin )
+                    {
+                        throw new NoSuchElementException( );
+                    }
+                    return cadenas[ siguiente++ ];
+                }
+            };
+        }
+
+        @Override
+        public Comparator<? super String> comparator( )
+        {
+            return comparador;
+        }
+
+        @Override
+        public String first( )
+        {
+            if( inicio == fin )
+            {
+                throw new NoSuchElementException( );
+            }
+            return cadenas[ inicio ];
+        }
+
+        @Override
+        public String last( )
+        {
+            if( inicio == fin )
+            {
+                throw new NoSuchElementException( );
+            }
+            return cadenas[ fin - 1 ];
+        }
+
+        @Override
+        public SortedSet<String> subSet( String desde, String hasta )
+        {
+            int comparacion = comparador == null ? desde.compareTo( hasta ) : comparador.compare( desde, hasta );
+            if( comparacion > 0 )
+            {
+                throw new IllegalArgumentException( "El inicio del rango es mayor que el final" );
+            }
+            return vista( posicionMayorOIgual( desde ), posicionMayorOIgual( hasta ) );
+        }
+
+        @Override
+        public SortedSet<String> headSet( String hasta )
+        {
+            return vista( inicio, posicionMayorOIgual( hasta ) );
+        }
+
+        @Override
+        public SortedSet<String> tailSet( String desde )
+        {
+            return vista( posicionMayorOIgual( desde ), fin );
+        }
+
+        /**
+         * Crea una vista sobre las posiciones [desde, hasta), recortadas al rango de esta vista
+         */
+        private ArregloOrdenado vista( int desde, int hasta )
+        {
+            desde = Math.max( desde, inicio );
+            hasta = Math.max( Math.min( hasta, fin ), desde );
+            return new ArregloOrdenado( cadenas, desde, hasta, comparador );
+        }
+
+        /**
+         * Retorna la posición de la primera cadena de la vista mayor o igual a la cadena dada
+         */
+        private int posicionMayorOIgual( String cadena )
+        {
+            int posicion = Arrays.binarySearch( cadenas, inicio, fin, cadena, comparador );
+            return posicion >= 0 ? posicion : -posicion - 1;
+        }
+    }
+}
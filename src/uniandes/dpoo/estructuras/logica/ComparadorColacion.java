@@ -0,0 +1,160 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Esta clase es un comparador de cadenas que sigue las reglas de ordenamiento (colación) de un idioma, por ejemplo para que en español "ñ" quede entre "n" y "o" y las
+ * vocales con tilde queden junto a las vocales sin tilde.
+ *
+ * Comparar dos cadenas con un Collator es costoso, porque cada comparación vuelve a analizar las cadenas. Este comparador guarda la llave de colación de cada cadena
+ * registrada como un arreglo de bytes, y compara las llaves byte por byte. Las cadenas de un conjunto se registran cuando entran al conjunto y se olvidan cuando salen; la
+ * última cadena sin registrar que se comparó (normalmente la cadena que se busca en el conjunto) también queda guardada, para no recalcular su llave en cada nivel del árbol.
+ *
+ * Si dos cadenas diferentes tienen la misma llave de colación, se ordenan con String.compareTo, así que el comparador sólo considera iguales a las cadenas iguales y puede
+ * usarse en un TreeSet.
+ *
+ * Esta clase no es segura para ser usada desde varios hilos a la vez.
+ */
+public class ComparadorColacion implements Comparator<String>
+{
+    /**
+     * La localidad cuyas reglas de colación se usan
+     */
+    private final Locale localidad;
+
+    /**
+     * El Collator que calcula las llaves
+     */
+    private final Collator colador;
+
+    /**
+     * Las llaves de las cadenas registradas
+     */
+    private Map<String, byte[]> llaves;
+
+    /**
+     * La última cadena sin registrar cuya llave se calculó
+     */
+    private String ultimaCadena;
+
+    /**
+     * La llave de ultimaCadena
+     */
+    private byte[] ultimaLlave;
+
+    /**
+     * Crea un comparador con las reglas de colación de una localidad
+     * @param localidad La localidad, por ejemplo Locale.forLanguageTag("es")
+     */
+    public ComparadorColacion( Locale localidad )
+    {
+        this.localidad = localidad;
+        this.colador = Collator.getInstance( localidad );
+        this.llaves = new HashMap<String, byte[]>( );
+    }
+
+    /**
+     * Retorna la localidad cuyas reglas usa el comparador
+     * @return La localidad del comparador
+     */
+    public Locale getLocalidad( )
+    {
+        return localidad;
+    }
+
+    /**
+     * Indica si el otro comparador ordena las cadenas igual que este
+     * @param otro El otro comparador. Puede ser null (el orden natural de String).
+     * @return True si el otro comparador usa las reglas de la misma localidad
+     */
+    public boolean mismoOrden( Comparator<?> otro )
+    {
+        return otro instanceof ComparadorColacion && ( (ComparadorColacion)otro ).localidad.equals( localidad );
+    }
+
+    /**
+     * Calcula y guarda la llave de una cadena
+     * @param cadena La cadena que se registra
+     */
+    public void registrar( String cadena )
+    {
+        if( !llaves.containsKey( cadena ) )
+        {
+            llaves.put( cadena, llave( cadena ) );
+        }
+    }
+
+    /**
+     * Descarta la llave de una cadena
+     * @param cadena La cadena que se olvida
+     */
+    public void olvidar( String cadena )
+    {
+        llaves.remove( cadena );
+    }
+
+    /**
+     * Registra todas las cadenas del arreglo
+     * @param cadenas Las cadenas que se registran. Pueden estar repetidas.
+     */
+    public void registrarTodas( String[] cadenas )
+    {
+        for( String cadena : cadenas )
+        {
+            registrar( cadena );
+        }
+    }
+
+    /**
+     * Deja registradas únicamente las cadenas del arreglo. Las llaves de las cadenas que ya estaban registradas se reutilizan.
+     * @param cadenas Las cadenas que quedan registradas. Pueden estar repetidas.
+     */
+    public void reiniciar( String[] cadenas )
+    {
+        Map<String, byte[]> nuevas = new HashMap<String, byte[]>( CargaMasiva.capacidadPara( cadenas.length ) );
+        for( String cadena : cadenas )
+        {
+            if( !nuevas.containsKey( cadena ) )
+            {
+                nuevas.put( cadena, llave( cadena ) );
+            }
+        }
+        llaves = nuevas;
+    }
+
+    @Override
+    public int compare( String una, String otra )
+    {
+        if( una.equals( otra ) )
+        {
+            return 0;
+        }
+        int comparacion = Arrays.compareUnsigned( llave( una ), llave( otra ) );
+        return comparacion != 0 ? comparacion : una.compareTo( otra );
+    }
+
+    /**
+     * Retorna la llave de una cadena: la registrada si existe, y si no, la calcula y la deja como la última llave calculada
+     */
+    private byte[] llave( String cadena )
+    {
+        byte[] llave = llaves.get( cadena );
+        if( llave != null )
+        {
+            return llave;
+        }
+        if( cadena.equals( ultimaCadena ) )
+        {
+            return ultimaLlave;
+        }
+        llave = colador.getCollationKey( cadena ).toByteArray( );
+        ultimaCadena = cadena;
+        ultimaLlave = llave;
+        return llave;
+    }
+}
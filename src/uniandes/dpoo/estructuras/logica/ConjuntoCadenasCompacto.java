@@ -0,0 +1,540 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Esta clase es un conjunto inmutable de cadenas ordenadas y sin repetidos, guardado en un bloque compacto de bytes con codificación por prefijos (front coding).
+ *
+ * Las cadenas se codifican en UTF-8 y se agrupan en bloques de TAMANIO_BLOQUE cadenas. Los caracteres sustitutos sin pareja, que pueden estar en un String pero no
+ * tienen representación en UTF-8, se codifican con 3 bytes como cualquier otro carácter del plano básico (como en WTF-8), así que toda cadena se recupera exactamente; las
+ * cadenas que no tienen esos caracteres quedan en UTF-8 estándar. La primera cadena de cada bloque se guarda completa y cada una de las siguientes
+ * sólo guarda cuántos bytes comparte con la anterior y los bytes que cambian. Como las cadenas vecinas en un conjunto ordenado suelen compartir prefijos largos, el resultado
+ * ocupa una fracción de la memoria de un TreeSet.
+ *
+ * Para buscar una cadena se hace búsqueda binaria sobre las primeras cadenas de los bloques y luego se recorre un solo bloque. La lista se construye en un único recorrido
+ * secuencial de las cadenas ordenadas, y puede leerse desde varios hilos a la vez.
+ *
+ * El formato de los bytes (todos los enteros de 4 bytes son big-endian) es:
+ * <pre>
+ * int        cantidad de cadenas
+ * int        cantidad de cadenas por bloque
+ * int        cantidad de bloques
+ * int[]      la posición donde empieza cada bloque, desde el inicio de los bytes
+ * bloques    por cada bloque, la primera cadena como (largo, bytes) y las demás como (bytes compartidos, largo del sufijo, bytes del sufijo); los largos son enteros de
+ *            longitud variable (7 bits por byte)
+ * </pre>
+ */
+public class ConjuntoCadenasCompacto extends AbstractList<String>
+{
+    /**
+     * La cantidad de cadenas en cada bloque
+     */
+    public static final int TAMANIO_BLOQUE = 16;
+
+    /**
+     * El tamaño del encabezado, antes de las posiciones de los bloques
+     */
+    private static final int ENCABEZADO = 12;
+
+    /**
+     * Los bytes del conjunto. Sólo se leen con operaciones absolutas, así que su posición nunca cambia.
+     */
+    private final ByteBuffer bytes;
+
+    /**
+     * La cantidad de cadenas
+     */
+    private final int tamanio;
+
+    /**
+     * La cantidad de cadenas por bloque
+     */
+    private final int tamanioBloque;
+
+    /**
+     * La cantidad de bloques
+     */
+    private final int bloques;
+
+    /**
+     * Crea un conjunto a partir de bytes que ya tienen el formato de la clase
+     * @param bytes Los bytes del conjunto
+     * @throws IllegalArgumentException Si el encabezado de los bytes no es válido
+     */
+    public ConjuntoCadenasCompacto( ByteBuffer bytes )
+    {
+        this.bytes = bytes;
+        tamanio = bytes.getInt( 0 );
+        tamanioBloque = bytes.getInt( 4 );
+        bloques = bytes.getInt( 8 );
+        if( tamanio < 0 || tamanioBloque <= 0 || bloques != ( tamanio + tamanioBloque - 1 ) / tamanioBloque || ENCABEZADO + 4L * bloques > bytes.limit( ) )
+        {
+            throw new IllegalArgumentException( "Los bytes no corresponden a un conjunto de cadenas compacto" );
+        }
+    }
+
+    /**
+     * Construye un conjunto con las cadenas recibidas, en un solo recorrido
+     * @param cadenas Las cadenas, ordenadas lexicográficamente y sin repetidos (por ejemplo, un TreeSet)
+     * @return El conjunto compacto
+     * @throws IllegalArgumentException Si las cadenas no están ordenadas o hay repetidas
+     */
+    public static ConjuntoCadenasCompacto desde( Iterable<String> cadenas )
+    {
+        Escritor datos = new Escritor( );
+        int[] posiciones = new int[16];
+        int cantidad = 0;
+        String anterior = null;
+        byte[] bytesAnterior = null;
+
+        for( String cadena : cadenas )
+        {
+            if( anterior != null && anterior.compareTo( cadena ) >= 0 )
+            {
+                throw new IllegalArgumentException( "Las cadenas no están ordenadas o hay repetidas: '" + anterior + "' y '" + cadena + "'" );
+            }
+            byte[] actual = codificar( cadena );
+            if( cantidad % TAMANIO_BLOQUE == 0 )
+            {
+                int bloque = cantidad / TAMANIO_BLOQUE;
+                if( bloque == posiciones.length )
+                {
+                    posiciones = Arrays.copyOf( posiciones, bloque * 2 );
+                }
+                posiciones[ bloque ] = datos.tamanio;
+                datos.escribirVariable( actual.length );
+                datos.escribir( actual, 0, actual.length );
+            }
+            else
+            {
+                int comunes = 0;
+                int maximo = Math.min( actual.length, bytesAnterior.length );
+                while( comunes < maximo && actual[ comunes ] == bytesAnterior[ comunes ] )
+                {
+                    comunes++;
+                }
+                datos.escribirVariable( comunes );
+                datos.escribirVariable( actual.length - comunes );
+                datos.escribir( actual, comunes, actual.length - comunes );
+            }
+            anterior = cadena;
+            bytesAnterior = actual;
+            cantidad++;
+        }
+
+        int bloques = ( cantidad + TAMANIO_BLOQUE - 1 ) / TAMANIO_BLOQUE;
+        int inicioDatos = ENCABEZADO + 4 * bloques;
+        ByteBuffer resultado = ByteBuffer.allocate( inicioDatos + datos.tamanio );
+        resultado.putInt( cantidad ).putInt( TAMANIO_BLOQUE ).putInt( bloques );
+        for( int i = 0; i < bloques; i++ )
+        {
+            resultado.putInt( inicioDatos + posiciones[ i ] );
+        }
+        resultado.put( datos.contenido, 0, datos.tamanio );
+        resultado.flip( );
+        return new ConjuntoCadenasCompacto( resultado );
+    }
+
+    @Override
+    public int size( )
+    {
+        return tamanio;
+    }
+
+    /**
+     * Retorna la cadena en una posición del orden. Cuesta O(TAMANIO_BLOQUE) porque hay que decodificar el bloque hasta la posición.
+     */
+    @Override
+    public String get( int indice )
+    {
+        if( indice < 0 || indice >= tamanio )
+        {
+            throw new IndexOutOfBoundsException( "Índice: " + indice + ", tamaño: " + tamanio );
+        }
+        Lector lector = new Lector( indice / tamanioBloque );
+        String cadena = lector.siguiente( );
+        for( int i = indice % tamanioBloque; i > 0; i-- )
+        {
+            cadena = lector.siguiente( );
+        }
+        return cadena;
+    }
+
+    /**
+     * Busca una cadena en el conjunto, con búsqueda binaria sobre los bloques
+     * @param cadena La cadena buscada
+     * @return La posición de la cadena si está en el conjunto. Si no está, -(posición de inserción) - 1, como en Arrays.binarySearch.
+     */
+    public int buscar( String cadena )
+    {
+        // Se busca el último bloque cuya primera cadena es menor o igual a la cadena buscada
+        int bajo = 0;
+        int alto = bloques - 1;
+        int bloque = -1;
+        while( bajo <= alto )
+        {
+            int medio = ( bajo + alto ) >>> 1;
+            int comparacion = new Lector( medio ).siguiente( ).compareTo( cadena );
+            if( comparacion == 0 )
+            {
+                return medio * tamanioBloque;
+            }
+            if( comparacion < 0 )
+            {
+                bloque = medio;
+                bajo = medio + 1;
+            }
+            else
+            {
+                alto = medio - 1;
+            }
+        }
+        if( bloque < 0 )
+        {
+            return -1;
+        }
+        Lector lector = new Lector( bloque );
+        int inicio = bloque * tamanioBloque;
+        int fin = Math.min( inicio + tamanioBloque, tamanio );
+        for( int i = inicio; i < fin; i++ )
+        {
+            int comparacion = lector.siguiente( ).compareTo( cadena );
+            if( comparacion == 0 )
+            {
+                return i;
+            }
+            if( comparacion > 0 )
+            {
+                return -i - 1;
+            }
+        }
+        return -fin - 1;
+    }
+
+    @Override
+    public boolean contains( Object objeto )
+    {
+        return objeto instanceof String && buscar( (String)objeto ) >= 0;
+    }
+
+    @Override
+    public int indexOf( Object objeto )
+    {
+        if( !( objeto instanceof String ) )
+        {
+            return -1;
+        }
+        int posicion = buscar( (String)objeto );
+        return posicion >= 0 ? posicion : -1;
+    }
+
+    @Override
+    public int lastIndexOf( Object objeto )
+    {
+        return indexOf( objeto );
+    }
+
+    @Override
+    public Iterator<String> iterator( )
+    {
+        return iterador( 0, tamanio );
+    }
+
+    /**
+     * Retorna un iterador sobre las cadenas entre las posiciones 'desde' (incluida) y 'hasta' (excluida), que decodifica los bloques en orden
+     * @param desde La posición de la primera cadena
+     * @param hasta La posición siguiente a la última cadena
+     * @return Un iterador sobre el rango
+     */
+    public Iterator<String> iterador( int desde, int hasta )
+    {
+        if( desde < 0 || hasta > tamanio || desde > hasta )
+        {
+            throw new IndexOutOfBoundsException( "Rango: [" + desde + ", " + hasta + "), tamaño: " + tamanio );
+        }
+        return new Iterator<String>( )
+        {
+            private int siguiente = desde;
+
+            private Lector lector;
+
+            @Override
+            public boolean hasNext( )
+            {
+                return siguiente < hasta;
+            }
+
+            @Override
+            public String next( )
+            {
+                if( siguiente >= hasta )
+                {
+                    throw new NoSuchElementException( );
+                }
+                if( lector == null || siguiente % tamanioBloque == 0 )
+                {
+                    lector = new Lector( siguiente / tamanioBloque );
+                    for( int i = siguiente % tamanioBloque; i > 0; i-- )
+                    {
+                        lector.siguiente( );
+                    }
+                }
+                siguiente++;
+                return lector.siguiente( );
+            }
+        };
+    }
+
+    /**
+     * Retorna un iterador sobre las cadenas entre las posiciones 'desde' (incluida) y 'hasta' (excluida), de la última a la primera. Cada bloque se decodifica una sola vez.
+     * @param desde La posición de la primera cadena del rango
+     * @param hasta La posición siguiente a la última cadena del rango
+     * @return Un iterador sobre el rango en orden descendente
+     */
+    public Iterator<String> iteradorDescendente( int desde, int hasta )
+    {
+        if( desde < 0 || hasta > tamanio || desde > hasta )
+        {
+            throw new IndexOutOfBoundsException( "Rango: [" + desde + ", " + hasta + "), tamaño: " + tamanio );
+        }
+        return new Iterator<String>( )
+        {
+            /**
+             * La posición de la próxima cadena que se retorna, más 1
+             */
+            private int siguiente = hasta;
+
+            /**
+             * Las cadenas del bloque actual, decodificadas hasta la próxima cadena
+             */
+            private final String[] bloque = new String[tamanioBloque];
+
+            private boolean decodificado = false;
+
+            @Override
+            public boolean hasNext( )
+            {
+                return siguiente > desde;
+            }
+
+            @Override
+            public String next( )
+            {
+                if( siguiente <= desde )
+                {
+                    throw new NoSuchElementException( );
+                }
+                siguiente--;
+                int enBloque = siguiente % tamanioBloque;
+                if( !decodificado || enBloque == tamanioBloque - 1 )
+                {
+                    Lector lector = new Lector( siguiente / tamanioBloque );
+                    for( int i = 0; i <= enBloque; i++ )
+                    {
+                        bloque[ i ] = lector.siguiente( );
+                    }
+                    decodificado = true;
+                }
+                return bloque[ enBloque ];
+            }
+        };
+    }
+
+    /**
+     * Retorna los bytes del conjunto, en el formato descrito en la clase. Sirven para guardar el conjunto y volver a abrirlo después con el constructor.
+     * @return Una vista de sólo lectura de los bytes, desde la posición 0 hasta el final del conjunto
+     */
+    public ByteBuffer getBytes( )
+    {
+        return bytes.asReadOnlyBuffer( );
+    }
+
+    /**
+     * Retorna la cantidad de bytes que ocupa el conjunto
+     * @return El tamaño de los bytes del conjunto
+     */
+    public int getTamanioEnBytes( )
+    {
+        return bytes.limit( );
+    }
+
+    /**
+     * Codifica una cadena en UTF-8. Si la cadena tiene caracteres sustitutos sin pareja, cada uno se codifica con 3 bytes en lugar de reemplazarse por '?'.
+     */
+    static byte[] codificar( String cadena )
+    {
+        int largo = cadena.length( );
+        int primerSustituto = 0;
+        while( primerSustituto < largo && !Character.isSurrogate( cadena.charAt( primerSustituto ) ) )
+        {
+            primerSustituto++;
+        }
+        if( primerSustituto == largo )
+        {
+            return cadena.getBytes( StandardCharsets.UTF_8 );
+        }
+        byte[] codificada = new byte[3 * largo];
+        int escritos = 0;
+        for( int i = 0; i < largo; i++ )
+        {
+            char caracter = cadena.charAt( i );
+            if( caracter < 0x80 )
+            {
+                codificada[ escritos++ ] = (byte)caracter;
+            }
+            else if( caracter < 0x800 )
+            {
+                codificada[ escritos++ ] = (byte) ( 0xC0 | caracter >> 6 );
+                codificada[ escritos++ ] = (byte) ( 0x80 | caracter & 0x3F );
+            }
+            else if( Character.isHighSurrogate( caracter ) && i + 1 < largo && Character.isLowSurrogate( cadena.charAt( i + 1 ) ) )
+            {
+                int punto = Character.toCodePoint( caracter, cadena.charAt( ++i ) );
+                codificada[ escritos++ ] = (byte) ( 0xF0 | punto >> 18 );
+                codificada[ escritos++ ] = (byte) ( 0x80 | punto >> 12 & 0x3F );
+                codificada[ escritos++ ] = (byte) ( 0x80 | punto >> 6 & 0x3F );
+                codificada[ escritos++ ] = (byte) ( 0x80 | punto & 0x3F );
+            }
+            else
+            {
+                // Incluye los sustitutos sin pareja, que quedan entre ED A0 80 y ED BF BF
+                codificada[ escritos++ ] = (byte) ( 0xE0 | caracter >> 12 );
+                codificada[ escritos++ ] = (byte) ( 0x80 | caracter >> 6 & 0x3F );
+                codificada[ escritos++ ] = (byte) ( 0x80 | caracter & 0x3F );
+            }
+        }
+        return Arrays.copyOf( codificada, escritos );
+    }
+
+    /**
+     * Decodifica los primeros 'largo' bytes del arreglo, que deben venir de codificar
+     */
+    static String decodificar( byte[] codificada, int largo )
+    {
+        boolean sinPareja = false;
+        for( int i = 0; i + 1 < largo && !sinPareja; i++ )
+        {
+            // UTF-8 estándar nunca tiene ED seguido de A0 a BF: esos bytes sólo aparecen para un sustituto sin pareja
+            sinPareja = codificada[ i ] == (byte)0xED && ( codificada[ i + 1 ] & 0xE0 ) == 0xA0;
+        }
+        if( !sinPareja )
+        {
+            return new String( codificada, 0, largo, StandardCharsets.UTF_8 );
+        }
+        StringBuilder cadena = new StringBuilder( largo );
+        int i = 0;
+        while( i < largo )
+        {
+            int primero = codificada[ i ] & 0xFF;
+            if( primero < 0x80 )
+            {
+                cadena.append( (char)primero );
+                i += 1;
+            }
+            else if( primero < 0xE0 )
+            {
+                cadena.append( (char) ( ( primero & 0x1F ) << 6 | codificada[ i + 1 ] & 0x3F ) );
+                i += 2;
+            }
+            else if( primero < 0xF0 )
+            {
+                cadena.append( (char) ( ( primero & 0x0F ) << 12 | ( codificada[ i + 1 ] & 0x3F ) << 6 | codificada[ i + 2 ] & 0x3F ) );
+                i += 3;
+            }
+            else
+            {
+                cadena.appendCodePoint( ( primero & 0x07 ) << 18 | ( codificada[ i + 1 ] & 0x3F ) << 12 | ( codificada[ i + 2 ] & 0x3F ) << 6 | codificada[ i + 3 ] & 0x3F );
+                i += 4;
+            }
+        }
+        return cadena.toString( );
+    }
+
+    /**
+     * Decodifica en orden las cadenas de un bloque
+     */
+    private final class Lector
+    {
+        private int posicion;
+
+        private byte[] actual = new byte[32];
+
+        private int largo = -1;
+
+        private Lector( int bloque )
+        {
+            posicion = bytes.getInt( ENCABEZADO + 4 * bloque );
+        }
+
+        private String siguiente( )
+        {
+            int comunes = largo < 0 ? 0 : leerVariable( );
+            int sufijo = leerVariable( );
+            largo = comunes + sufijo;
+            if( largo > actual.length )
+            {
+                actual = Arrays.copyOf( actual, Math.max( largo, actual.length * 2 ) );
+            }
+            for( int i = 0; i < sufijo; i++ )
+            {
+                actual[ comunes + i ] = bytes.get( posicion++ );
+            }
+            return decodificar( actual, largo );
+        }
+
+        private int leerVariable( )
+        {
+            int valor = 0;
+            int desplazamiento = 0;
+            byte leido;
+            do
+            {
+                leido = bytes.get( posicion++ );
+                valor |= ( leido & 0x7F ) << desplazamiento;
+                desplazamiento += 7;
+            } while( leido < 0 );
+            return valor;
+        }
+    }
+
+    /**
+     * Un arreglo de bytes que crece a medida que se escribe
+     */
+    private static final class Escritor
+    {
+        private byte[] contenido = new byte[256];
+
+        private int tamanio;
+
+        private void escribir( byte[] origen, int desde, int cantidad )
+        {
+            asegurar( cantidad );
+            System.arraycopy( origen, desde, contenido, tamanio, cantidad );
+            tamanio += cantidad;
+        }
+
+        private void escribirVariable( int valor )
+        {
+            asegurar( 5 );
+            while( ( valor & ~0x7F ) != 0 )
+            {
+                contenido[ tamanio++ ] = (byte) ( ( valor & 0x7F ) | 0x80 );
+                valor >>>= 7;
+            }
+            contenido[ tamanio++ ] = (byte)valor;
+        }
+
+        private void asegurar( int adicionales )
+        {
+            if( tamanio + adicionales > contenido.length )
+            {
+                contenido = Arrays.copyOf( contenido, Math.max( tamanio + adicionales, contenido.length * 2 ) );
+            }
+        }
+    }
+}
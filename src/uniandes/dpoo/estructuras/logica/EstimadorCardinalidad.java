@@ -0,0 +1,161 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Esta clase estima cuántas cadenas diferentes se le han agregado (la cardinalidad), usando el algoritmo HyperLogLog.
+ *
+ * El estimador ocupa 2^precision bytes sin importar cuántas cadenas reciba, y agregar una cadena cuesta O(largo de la cadena). El error relativo típico es
+ * 1.04 / raíz(2^precision): cerca del 0,8% con la precisión por defecto. Agregar la misma cadena varias veces no cambia la estimación.
+ *
+ * Dos estimadores con la misma precisión pueden unirse para estimar las cadenas diferentes de la unión de los dos grupos, sin volver a recorrer las cadenas. Como todo
+ * estimador de este tipo, no permite eliminar cadenas.
+ */
+public class EstimadorCardinalidad
+{
+    /**
+     * La precisión por defecto: 2^14 registros
+     */
+    public static final int PRECISION_POR_DEFECTO = 14;
+
+    /**
+     * La precisión mínima permitida
+     */
+    public static final int PRECISION_MINIMA = 4;
+
+    /**
+     * La precisión máxima permitida
+     */
+    public static final int PRECISION_MAXIMA = 18;
+
+    /**
+     * La cantidad de bits del hash que se usan para elegir el registro
+     */
+    private final int precision;
+
+    /**
+     * Para cada registro, la mayor posición del primer bit encendido entre los hashes que cayeron en él
+     */
+    private final byte[] registros;
+
+    /**
+     * Crea un estimador vacío con la precisión por defecto
+     */
+    public EstimadorCardinalidad( )
+    {
+        this( PRECISION_POR_DEFECTO );
+    }
+
+    /**
+     * Crea un estimador vacío
+     * @param precision El logaritmo en base 2 de la cantidad de registros, entre PRECISION_MINIMA y PRECISION_MAXIMA
+     * @throws IllegalArgumentException Si la precisión está por fuera del rango permitido
+     */
+    public EstimadorCardinalidad( int precision )
+    {
+        if( precision < PRECISION_MINIMA || precision > PRECISION_MAXIMA )
+        {
+            throw new IllegalArgumentException( "La precisión debe estar entre " + PRECISION_MINIMA + " y " + PRECISION_MAXIMA + ": " + precision );
+        }
+        this.precision = precision;
+        this.registros = new byte[1 << precision];
+    }
+
+    /**
+     * Retorna la precisión del estimador
+     * @return El logaritmo en base 2 de la cantidad de registros
+     */
+    public int getPrecision( )
+    {
+        return precision;
+    }
+
+    /**
+     * Retorna el error relativo típico (una desviación estándar) de las estimaciones
+     * @return El error relativo, por ejemplo 0.008 para un 0,8%
+     */
+    public double getErrorRelativo( )
+    {
+        return 1.04 / Math.sqrt( registros.length );
+    }
+
+    /**
+     * Agrega una cadena al estimador
+     * @param cadena La cadena que se agrega
+     */
+    public void agregar( String cadena )
+    {
+        long hash = hash( cadena );
+        int indice = (int) ( hash >>> ( 64 - precision ) );
+        // El bit centinela limita la posición del primer bit encendido a los 64 - precision bits que no eligieron el registro
+        long resto = ( hash << precision ) | ( 1L << ( precision - 1 ) );
+        byte posicion = (byte) ( Long.numberOfLeadingZeros( resto ) + 1 );
+        if( posicion > registros[ indice ] )
+        {
+            registros[ indice ] = posicion;
+        }
+    }
+
+    /**
+     * Estima la cantidad de cadenas diferentes que se han agregado
+     * @return La estimación de la cardinalidad
+     */
+    public long estimar( )
+    {
+        int cantidad = registros.length;
+        double suma = 0;
+        int vacios = 0;
+        for( byte registro : registros )
+        {
+            suma += 1.0 / ( 1L << registro );
+            if( registro == 0 )
+            {
+                vacios++;
+            }
+        }
+        double estimado = ( 0.7213 / ( 1 + 1.079 / cantidad ) ) * cantidad * cantidad / suma;
+        if( estimado <= 2.5 * cantidad && vacios > 0 )
+        {
+            // Con pocas cadenas es más preciso contar los registros vacíos (conteo lineal)
+            estimado = cantidad * Math.log( (double)cantidad / vacios );
+        }
+        return Math.round( estimado );
+    }
+
+    /**
+     * Agrega a este estimador las cadenas del otro, como si se le hubieran agregado una por una
+     * @param otro El otro estimador. No se modifica.
+     * @throws IllegalArgumentException Si los estimadores no tienen la misma precisión
+     */
+    public void unir( EstimadorCardinalidad otro )
+    {
+        if( otro.precision != precision )
+        {
+            throw new IllegalArgumentException( "Los estimadores deben tener la misma precisión" );
+        }
+        for( int i = 0; i < registros.length; i++ )
+        {
+            if( otro.registros[ i ] > registros[ i ] )
+            {
+                registros[ i ] = otro.registros[ i ];
+            }
+        }
+    }
+
+    /**
+     * Calcula un hash de 64 bits de la cadena. String.hashCode sólo tiene 32 bits, que no alcanzan para distinguir miles de millones de cadenas.
+     */
+    private static long hash( String cadena )
+    {
+        long hash = 0xCBF29CE484222325L;
+        for( int i = 0; i < cadena.length( ); i++ )
+        {
+            hash = ( hash ^ cadena.charAt( i ) ) * 0x100000001B3L;
+        }
+        // Mezcla final para que todos los bits dependan de todos los caracteres
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
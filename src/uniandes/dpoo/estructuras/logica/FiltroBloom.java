@@ -0,0 +1,134 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Collection;
+
+/**
+ * Esta clase es un filtro de Bloom de cadenas: responde en O(1) si una cadena definitivamente no fue agregada, o si posiblemente sí lo fue.
+ *
+ * El filtro usa cerca de BITS_POR_CADENA bits por cada cadena esperada y HASHES posiciones por cadena, así que los falsos positivos son cerca del 1% mientras no se
+ * agreguen más cadenas de las esperadas. Las posiciones se calculan con doble hashing a partir de String.hashCode, que las cadenas ya guardan en caché.
+ *
+ * Un filtro de Bloom no permite eliminar cadenas. Cuando se elimina una cadena del conjunto que el filtro representa sólo se registra la eliminación: sus bits se quedan
+ * encendidos, lo que produce más falsos positivos pero nunca falsos negativos. El dueño del filtro debe reconstruirlo cuando estaDesactualizado lo indique.
+ */
+public final class FiltroBloom
+{
+    /**
+     * La cantidad de bits por cada cadena esperada
+     */
+    private static final int BITS_POR_CADENA = 10;
+
+    /**
+     * La cantidad de posiciones que se encienden por cada cadena
+     */
+    private static final int HASHES = 7;
+
+    /**
+     * Los bits del filtro. La cantidad de bits es una potencia de 2.
+     */
+    private final long[] bits;
+
+    /**
+     * La máscara para convertir un hash en una posición del filtro
+     */
+    private final int mascara;
+
+    /**
+     * La cantidad de cadenas para la que se dimensionó el filtro
+     */
+    private final int capacidad;
+
+    /**
+     * La cantidad de cadenas agregadas
+     */
+    private int agregadas;
+
+    /**
+     * La cantidad de eliminaciones registradas
+     */
+    private int eliminadas;
+
+    /**
+     * Crea un filtro con las cadenas de la colección, dimensionado para ellas
+     * @param cadenas Las cadenas iniciales
+     */
+    public FiltroBloom( Collection<String> cadenas )
+    {
+        capacidad = Math.max( cadenas.size( ), 64 );
+        long cantidadBits = Long.highestOneBit( (long)capacidad * BITS_POR_CADENA - 1 ) << 1;
+        cantidadBits = Math.min( cantidadBits, 1L << 31 );
+        bits = new long[(int) ( cantidadBits >>> 6 )];
+        mascara = (int) ( cantidadBits - 1 );
+        for( String cadena : cadenas )
+        {
+            agregar( cadena );
+        }
+    }
+
+    /**
+     * Agrega una cadena al filtro
+     * @param cadena La cadena que se agrega
+     */
+    public void agregar( String cadena )
+    {
+        int hash1 = mezclar( cadena.hashCode( ) );
+        int hash2 = mezclar( hash1 ^ 0x9E3779B9 ) | 1;
+        for( int i = 0; i < HASHES; i++ )
+        {
+            int posicion = ( hash1 + i * hash2 ) & mascara;
+            bits[ posicion >>> 6 ] |= 1L << posicion;
+        }
+        agregadas++;
+    }
+
+    /**
+     * Indica si la cadena pudo haber sido agregada al filtro
+     * @param cadena La cadena buscada
+     * @return False si la cadena definitivamente no fue agregada. True si posiblemente fue agregada.
+     */
+    public boolean puedeContener( String cadena )
+    {
+        int hash1 = mezclar( cadena.hashCode( ) );
+        int hash2 = mezclar( hash1 ^ 0x9E3779B9 ) | 1;
+        for( int i = 0; i < HASHES; i++ )
+        {
+            int posicion = ( hash1 + i * hash2 ) & mascara;
+            if( ( bits[ posicion >>> 6 ] & ( 1L << posicion ) ) == 0 )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Registra que una cadena agregada se eliminó del conjunto que representa el filtro. Los bits de la cadena no se apagan.
+     */
+    public void registrarEliminacion( )
+    {
+        eliminadas++;
+    }
+
+    /**
+     * Indica si el filtro perdió precisión y conviene reconstruirlo: cuando se agregaron más del doble de las cadenas para las que se dimensionó, o cuando las
+     * eliminaciones registradas son más de la mitad de las cadenas agregadas
+     * @return True si el filtro debería reconstruirse
+     */
+    public boolean estaDesactualizado( )
+    {
+        return agregadas > 2 * capacidad || eliminadas > agregadas / 2;
+    }
+
+    /**
+     * Mezcla los bits de un hash (el paso final de MurmurHash3), para que hashes parecidos caigan en posiciones distintas
+     */
+    private static int mezclar( int hash )
+    {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
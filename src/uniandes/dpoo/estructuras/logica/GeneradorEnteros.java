@@ -0,0 +1,69 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Esta clase genera secuencias de enteros aleatorios como flujos perezosos, sin guardar los valores en memoria.
+ *
+ * Los valores se producen a medida que el consumidor los pide, así que se pueden agregar (contar, calcular el rango o un histograma) secuencias de cientos de millones de
+ * valores usando memoria constante. Los flujos se basan en SplittableRandom, así que también pueden consumirse en paralelo.
+ */
+public final class GeneradorEnteros
+{
+    private GeneradorEnteros( )
+    {
+    }
+
+    /**
+     * Retorna un flujo perezoso de enteros aleatorios con distribución uniforme entre el mínimo y el máximo, ambos incluidos
+     * @param cantidad La cantidad de valores del flujo
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @return Un flujo con 'cantidad' valores
+     * @throws IllegalArgumentException Si la cantidad es negativa o el mínimo es mayor que el máximo
+     */
+    public static IntStream flujo( long cantidad, int minimo, int maximo )
+    {
+        if( cantidad < 0 )
+        {
+            throw new IllegalArgumentException( "La cantidad no puede ser negativa: " + cantidad );
+        }
+        if( minimo > maximo )
+        {
+            throw new IllegalArgumentException( "El mínimo " + minimo + " es mayor que el máximo " + maximo );
+        }
+        // Se generan longs para que el límite superior (exclusivo) pueda ser Integer.MAX_VALUE + 1
+        return new SplittableRandom( ).longs( cantidad, minimo, (long)maximo + 1 ).mapToInt( valor -> (int)valor );
+    }
+
+    /**
+     * Cuenta cuántas veces aparece cada valor del rango en el flujo. Los valores por fuera del rango se ignoran.
+     *
+     * El flujo se consume una sola vez y sólo se guarda el histograma, así que el flujo puede ser mucho más grande que la memoria disponible.
+     * @param flujo El flujo que se consume. Puede ser paralelo.
+     * @param minimo El menor valor del rango
+     * @param maximo El mayor valor del rango
+     * @return Un arreglo donde la posición i tiene la cantidad de veces que apareció el valor minimo + i
+     * @throws IllegalArgumentException Si el rango está vacío o es demasiado grande para un arreglo
+     */
+    public static long[] histograma( IntStream flujo, int minimo, int maximo )
+    {
+        long casillas = (long)maximo - minimo + 1;
+        if( casillas <= 0 || casillas > Integer.MAX_VALUE - 8 )
+        {
+            throw new IllegalArgumentException( "El rango del histograma no es válido: " + minimo + " a " + maximo );
+        }
+        return flujo.collect( ( ) -> new long[(int)casillas], ( histograma, valor ) -> {
+            if( valor >= minimo && valor <= maximo )
+            {
+                histograma[ valor - minimo ]++;
+            }
+        }, ( histograma, otro ) -> {
+            for( int i = 0; i < histograma.length; i++ )
+            {
+                histograma[ i ] += otro[ i ];
+            }
+        } );
+    }
+}
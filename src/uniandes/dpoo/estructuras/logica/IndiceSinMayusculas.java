@@ -0,0 +1,95 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Esta clase es un índice que agrupa cadenas que son iguales sin tener en cuenta mayúsculas y minúsculas.
+ *
+ * Cada cadena se guarda bajo una llave plegada, donde cada punto de código se reemplaza por su minúscula de su mayúscula. Es la misma regla con la que
+ * String.equalsIgnoreCase compara los puntos de código desde Java 16, así que dos cadenas tienen la misma llave plegada cuando equalsIgnoreCase las considera iguales, y
+ * encontrar todas las variantes de una cadena cuesta O(1) en promedio. En versiones anteriores equalsIgnoreCase compara cada char por separado y puede diferir en los
+ * caracteres suplementarios.
+ */
+public final class IndiceSinMayusculas
+{
+    /**
+     * Las variantes de cada llave plegada. Ninguna lista está vacía.
+     */
+    private final Map<String, List<String>> variantes;
+
+    /**
+     * Crea un índice con las cadenas de la colección
+     * @param cadenas Las cadenas iniciales. No deben estar repetidas.
+     */
+    public IndiceSinMayusculas( Collection<String> cadenas )
+    {
+        variantes = new HashMap<String, List<String>>( CargaMasiva.capacidadPara( cadenas.size( ) ) );
+        for( String cadena : cadenas )
+        {
+            agregar( cadena );
+        }
+    }
+
+    /**
+     * Agrega una cadena al índice. La cadena no debe estar en el índice.
+     * @param cadena La cadena que se agrega
+     */
+    public void agregar( String cadena )
+    {
+        String llave = plegar( cadena );
+        List<String> grupo = variantes.get( llave );
+        if( grupo == null )
+        {
+            grupo = new ArrayList<String>( 1 );
+            variantes.put( llave, grupo );
+        }
+        grupo.add( cadena );
+    }
+
+    /**
+     * Elimina una cadena del índice
+     * @param cadena La cadena que se elimina
+     */
+    public void eliminar( String cadena )
+    {
+        String llave = plegar( cadena );
+        List<String> grupo = variantes.get( llave );
+        if( grupo != null && grupo.remove( cadena ) && grupo.isEmpty( ) )
+        {
+            variantes.remove( llave );
+        }
+    }
+
+    /**
+     * Retorna las cadenas del índice que son iguales a la cadena dada sin tener en cuenta mayúsculas y minúsculas
+     * @param cadena La cadena buscada
+     * @return Una lista que no puede modificarse con las variantes de la cadena. Si no hay ninguna la lista está vacía.
+     */
+    public List<String> getVariantes( String cadena )
+    {
+        List<String> grupo = variantes.get( plegar( cadena ) );
+        return grupo == null ? Collections.<String>emptyList( ) : Collections.unmodifiableList( grupo );
+    }
+
+    /**
+     * Calcula la llave plegada de una cadena
+     * @param cadena La cadena que se pliega
+     * @return Una cadena con la minúscula de la mayúscula de cada punto de código
+     */
+    static String plegar( String cadena )
+    {
+        StringBuilder plegada = new StringBuilder( cadena.length( ) );
+        for( int i = 0; i < cadena.length( ); )
+        {
+            int punto = cadena.codePointAt( i );
+            plegada.appendCodePoint( Character.toLowerCase( Character.toUpperCase( punto ) ) );
+            i += Character.charCount( punto );
+        }
+        return plegada.toString( );
+    }
+}
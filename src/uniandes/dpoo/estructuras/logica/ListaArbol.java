@@ -0,0 +1,236 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Esta clase es una lista implementada con un árbol balanceado (un treap implícito), donde la posición de cada elemento es la cantidad de nodos a su izquierda.
+ *
+ * Cada nodo conoce el tamaño de su subárbol, así que get, set, add(int, E) y remove(int) cuestan O(log n) esperado en cualquier posición, incluyendo el inicio de la lista.
+ * A cambio, el acceso a una posición es más lento que en un ArrayList: esta lista conviene cuando hay muchas inserciones y eliminaciones en posiciones arbitrarias.
+ *
+ * Los nodos y las operaciones que mantienen el árbol balanceado están en NodoTreap.
+ *
+ * @param <E> El tipo de los elementos de la lista
+ */
+public class ListaArbol<E> extends AbstractList<E>
+{
+    /**
+     * La raíz del árbol, o null si la lista está vacía
+     */
+    private NodoTreap<E> raiz;
+
+    /**
+     * Crea una lista vacía
+     */
+    public ListaArbol( )
+    {
+        raiz = null;
+    }
+
+    /**
+     * Crea una lista con los elementos de la colección, en el orden en que los retorna su iterador. La construcción cuesta O(n).
+     * @param elementos Los elementos iniciales de la lista
+     */
+    public ListaArbol( Collection<? extends E> elementos )
+    {
+        raiz = construir( elementos );
+    }
+
+    @Override
+    public int size( )
+    {
+        return NodoTreap.tamanio( raiz );
+    }
+
+    @Override
+    public E get( int indice )
+    {
+        revisarIndice( indice, size( ) );
+        return NodoTreap.buscar( raiz, indice ).valor;
+    }
+
+    @Override
+    public E set( int indice, E elemento )
+    {
+        revisarIndice( indice, size( ) );
+        NodoTreap<E> nodo = NodoTreap.buscar( raiz, indice );
+        E anterior = nodo.valor;
+        nodo.valor = elemento;
+        return anterior;
+    }
+
+    @Override
+    public void add( int indice, E elemento )
+    {
+        revisarIndice( indice, size( ) + 1 );
+        raiz = NodoTreap.insertar( raiz, indice, new NodoTreap<E>( elemento ) );
+        modCount++;
+    }
+
+    @Override
+    public E remove( int indice )
+    {
+        revisarIndice( indice, size( ) );
+        E eliminado = NodoTreap.buscar( raiz, indice ).valor;
+        raiz = NodoTreap.eliminar( raiz, indice );
+        modCount++;
+        return eliminado;
+    }
+
+    /**
+     * Inserta todos los elementos de la colección a partir de una posición. Los elementos nuevos se organizan en un árbol y luego se une con las dos partes de la lista, así que
+     * la operación cuesta O(m + log n), donde m es la cantidad de elementos nuevos.
+     */
+    @Override
+    public boolean addAll( int indice, Collection<? extends E> elementos )
+    {
+        revisarIndice( indice, size( ) + 1 );
+        if( elementos.isEmpty( ) )
+        {
+            return false;
+        }
+        NodoTreap<E> nuevos = construir( elementos );
+        NodoTreap<E>[] partes = NodoTreap.dividir( raiz, indice );
+        raiz = NodoTreap.unir( NodoTreap.unir( partes[ 0 ], nuevos ), partes[ 1 ] );
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean addAll( Collection<? extends E> elementos )
+    {
+        return addAll( size( ), elementos );
+    }
+
+    @Override
+    public void clear( )
+    {
+        raiz = null;
+        modCount++;
+    }
+
+    /**
+     * Retorna un iterador que recorre el árbol en orden, en O(1) amortizado por elemento
+     */
+    @Override
+    public Iterator<E> iterator( )
+    {
+        return new Iterador( );
+    }
+
+    /**
+     * Un iterador en orden que guarda el camino desde la raíz hasta el siguiente nodo
+     */
+    private final class Iterador implements Iterator<E>
+    {
+        private final Deque<NodoTreap<E>> camino = new ArrayDeque<NodoTreap<E>>( );
+
+        private int siguiente;
+
+        private int ultimo = -1;
+
+        private int modificacionesEsperadas = modCount;
+
+        private Iterador( )
+        {
+            posicionar( 0 );
+        }
+
+        @Override
+        public boolean hasNext( )
+        {
+            return siguiente < size( );
+        }
+
+        @Override
+        public E next( )
+        {
+            if( modificacionesEsperadas != modCount )
+            {
+                throw new ConcurrentModificationException( );
+            }
+            if( camino.isEmpty( ) )
+            {
+                throw new NoSuchElementException( );
+            }
+            NodoTreap<E> nodo = camino.pop( );
+            for( NodoTreap<E> actual = nodo.derecho; actual != null; actual = actual.izquierdo )
+            {
+                camino.push( actual );
+            }
+            ultimo = siguiente++;
+            return nodo.valor;
+        }
+
+        @Override
+        public void remove( )
+        {
+            if( ultimo < 0 )
+            {
+                throw new IllegalStateException( );
+            }
+            if( modificacionesEsperadas != modCount )
+            {
+                throw new ConcurrentModificationException( );
+            }
+            ListaArbol.this.remove( ultimo );
+            modificacionesEsperadas = modCount;
+            posicionar( ultimo );
+            ultimo = -1;
+        }
+
+        /**
+         * Reconstruye el camino para que el siguiente elemento sea el de la posición dada
+         * @param indice La posición del siguiente elemento
+         */
+        private void posicionar( int indice )
+        {
+            camino.clear( );
+            siguiente = indice;
+            NodoTreap<E> actual = raiz;
+            int restante = indice;
+            while( actual != null )
+            {
+                int izquierdos = NodoTreap.tamanio( actual.izquierdo );
+                if( restante < izquierdos )
+                {
+                    camino.push( actual );
+                    actual = actual.izquierdo;
+                }
+                else if( restante == izquierdos )
+                {
+                    camino.push( actual );
+                    actual = null;
+                }
+                else
+                {
+                    restante -= izquierdos + 1;
+                    actual = actual.derecho;
+                }
+            }
+        }
+    }
+
+    /**
+     * Construye un árbol balanceado con los elementos de la colección en O(n)
+     */
+    private static <E> NodoTreap<E> construir( Collection<? extends E> elementos )
+    {
+        Object[] valores = elementos.toArray( );
+        return NodoTreap.construir( valores, 0, valores.length );
+    }
+
+    private void revisarIndice( int indice, int limite )
+    {
+        if( indice < 0 || indice >= limite )
+        {
+            throw new IndexOutOfBoundsException( "Índice: " + indice + ", tamaño: " + size( ) );
+        }
+    }
+}
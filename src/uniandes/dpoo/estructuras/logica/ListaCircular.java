@@ -0,0 +1,214 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Esta clase es una lista implementada con un arreglo circular: los elementos ocupan posiciones consecutivas del arreglo a partir de la cabeza, dando la vuelta al final.
+ *
+ * Agregar y eliminar en cualquiera de los dos extremos cuesta O(1) amortizado, y el acceso por posición cuesta O(1) como en un ArrayList. Insertar o eliminar en una posición
+ * intermedia mueve los elementos del lado más corto, así que nunca mueve más de la mitad de la lista.
+ *
+ * La capacidad del arreglo siempre es una potencia de 2, para que dar la vuelta sea una operación de bits.
+ *
+ * @param <E> El tipo de los elementos de la lista
+ */
+public class ListaCircular<E> extends AbstractList<E> implements RandomAccess
+{
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /**
+     * El arreglo con los elementos. Las posiciones que no tienen elementos son null.
+     */
+    private Object[] elementos;
+
+    /**
+     * La posición del arreglo donde está el primer elemento de la lista
+     */
+    private int cabeza;
+
+    /**
+     * La cantidad de elementos de la lista
+     */
+    private int tamanio;
+
+    /**
+     * Crea una lista vacía
+     */
+    public ListaCircular( )
+    {
+        elementos = new Object[CAPACIDAD_INICIAL];
+    }
+
+    @Override
+    public int size( )
+    {
+        return tamanio;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get( int indice )
+    {
+        revisarIndice( indice, tamanio );
+        return (E)elementos[ posicion( indice ) ];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set( int indice, E elemento )
+    {
+        revisarIndice( indice, tamanio );
+        int posicion = posicion( indice );
+        E anterior = (E)elementos[ posicion ];
+        elementos[ posicion ] = elemento;
+        return anterior;
+    }
+
+    /**
+     * Agrega un elemento al inicio de la lista en O(1) amortizado
+     * @param elemento El elemento que se agrega
+     */
+    public void addFirst( E elemento )
+    {
+        add( 0, elemento );
+    }
+
+    /**
+     * Agrega un elemento al final de la lista en O(1) amortizado
+     * @param elemento El elemento que se agrega
+     */
+    public void addLast( E elemento )
+    {
+        add( tamanio, elemento );
+    }
+
+    /**
+     * Elimina el primer elemento de la lista en O(1)
+     * @return El elemento eliminado
+     * @throws NoSuchElementException Si la lista está vacía
+     */
+    public E removeFirst( )
+    {
+        if( tamanio == 0 )
+        {
+            throw new NoSuchElementException( );
+        }
+        return remove( 0 );
+    }
+
+    /**
+     * Elimina el último elemento de la lista en O(1)
+     * @return El elemento eliminado
+     * @throws NoSuchElementException Si la lista está vacía
+     */
+    public E removeLast( )
+    {
+        if( tamanio == 0 )
+        {
+            throw new NoSuchElementException( );
+        }
+        return remove( tamanio - 1 );
+    }
+
+    @Override
+    public void add( int indice, E elemento )
+    {
+        revisarIndice( indice, tamanio + 1 );
+        if( tamanio == elementos.length )
+        {
+            crecer( );
+        }
+        int mascara = elementos.length - 1;
+        if( indice < tamanio - indice )
+        {
+            // Se corren una posición hacia atrás los elementos antes del índice
+            cabeza = ( cabeza - 1 ) & mascara;
+            for( int i = 0; i < indice; i++ )
+            {
+                elementos[ ( cabeza + i ) & mascara ] = elementos[ ( cabeza + i + 1 ) & mascara ];
+            }
+        }
+        else
+        {
+            // Se corren una posición hacia adelante los elementos desde el índice
+            for( int i = tamanio; i > indice; i-- )
+            {
+                elementos[ ( cabeza + i ) & mascara ] = elementos[ ( cabeza + i - 1 ) & mascara ];
+            }
+        }
+        elementos[ ( cabeza + indice ) & mascara ] = elemento;
+        tamanio++;
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove( int indice )
+    {
+        revisarIndice( indice, tamanio );
+        int mascara = elementos.length - 1;
+        E eliminado = (E)elementos[ ( cabeza + indice ) & mascara ];
+        if( indice < tamanio - indice - 1 )
+        {
+            for( int i = indice; i > 0; i-- )
+            {
+                elementos[ ( cabeza + i ) & mascara ] = elementos[ ( cabeza + i - 1 ) & mascara ];
+            }
+            elementos[ cabeza ] = null;
+            cabeza = ( cabeza + 1 ) & mascara;
+        }
+        else
+        {
+            for( int i = indice; i < tamanio - 1; i++ )
+            {
+                elementos[ ( cabeza + i ) & mascara ] = elementos[ ( cabeza + i + 1 ) & mascara ];
+            }
+            elementos[ ( cabeza + tamanio - 1 ) & mascara ] = null;
+        }
+        tamanio--;
+        modCount++;
+        return eliminado;
+    }
+
+    @Override
+    public void clear( )
+    {
+        Arrays.fill( elementos, null );
+        cabeza = 0;
+        tamanio = 0;
+        modCount++;
+    }
+
+    /**
+     * Duplica la capacidad del arreglo, dejando los elementos desde la posición 0
+     */
+    private void crecer( )
+    {
+        if( elementos.length >= 1 << 30 )
+        {
+            throw new IllegalStateException( "La lista alcanzó su capacidad máxima" );
+        }
+        Object[] nuevos = new Object[elementos.length << 1];
+        int primeros = elementos.length - cabeza;
+        System.arraycopy( elementos, cabeza, nuevos, 0, primeros );
+        System.arraycopy( elementos, 0, nuevos, primeros, cabeza );
+        elementos = nuevos;
+        cabeza = 0;
+    }
+
+    private int posicion( int indice )
+    {
+        return ( cabeza + indice ) & ( elementos.length - 1 );
+    }
+
+    private void revisarIndice( int indice, int limite )
+    {
+        if( indice < 0 || indice >= limite )
+        {
+            throw new IndexOutOfBoundsException( "Índice: " + indice + ", tamaño: " + tamanio );
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.RandomAccess;
+import java.util.function.UnaryOperator;
+
+/**
+ * Esta clase es una lista de enteros que mantiene un árbol de segmentos con el mínimo, el máximo y la suma de cada rango, para responder consultas sobre cualquier sub-rango
+ * de la lista en O(log n).
+ *
+ * El árbol se guarda en arreglos: las hojas están en las posiciones [capacidad, 2 * capacidad) y cada nodo interno i resume a sus hijos 2i y 2i + 1. Las hojas de las
+ * posiciones que no tienen elementos son neutras (el mínimo es Integer.MAX_VALUE, el máximo Integer.MIN_VALUE y la suma 0).
+ *
+ * Cambiar un elemento (set) y agregar al final cuestan O(log n). Insertar o eliminar en la posición i corre los elementos siguientes y recalcula sólo los nodos afectados, en
+ * O(n - i), que es el mismo orden que en un ArrayList.
+ */
+public class ListaEnterosRangos extends AbstractList<Integer> implements RandomAccess
+{
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /**
+     * La cantidad de hojas del árbol. Siempre es una potencia de 2.
+     */
+    private int capacidad;
+
+    /**
+     * El mínimo de cada nodo del árbol. Las hojas son los elementos de la lista.
+     */
+    private int[] minimos;
+
+    /**
+     * El máximo de cada nodo del árbol
+     */
+    private int[] maximos;
+
+    /**
+     * La suma de cada nodo del árbol
+     */
+    private long[] sumas;
+
+    /**
+     * La cantidad de elementos de la lista
+     */
+    private int tamanio;
+
+    /**
+     * Crea una lista vacía
+     */
+    public ListaEnterosRangos( )
+    {
+        inicializar( CAPACIDAD_INICIAL );
+    }
+
+    @Override
+    public int size( )
+    {
+        return tamanio;
+    }
+
+    @Override
+    public Integer get( int indice )
+    {
+        revisarIndice( indice, tamanio );
+        return minimos[ capacidad + indice ];
+    }
+
+    @Override
+    public Integer set( int indice, Integer elemento )
+    {
+        revisarIndice( indice, tamanio );
+        int anterior = minimos[ capacidad + indice ];
+        ponerHoja( indice, elemento );
+        for( int nodo = ( capacidad + indice ) >> 1; nodo > 0; nodo >>= 1 )
+        {
+            recalcular( nodo );
+        }
+        return anterior;
+    }
+
+    /**
+     * Inserta un elemento en una posición
+     * @throws NullPointerException Si el elemento es null. En ese caso la lista no cambia.
+     */
+    @Override
+    public void add( int indice, Integer elemento )
+    {
+        if( elemento == null )
+        {
+            throw new NullPointerException( "La lista no acepta elementos null" );
+        }
+        revisarIndice( indice, tamanio + 1 );
+        if( tamanio == capacidad )
+        {
+            crecer( );
+        }
+        int hoja = capacidad + indice;
+        System.arraycopy( minimos, hoja, minimos, hoja + 1, tamanio - indice );
+        System.arraycopy( maximos, hoja, maximos, hoja + 1, tamanio - indice );
+        System.arraycopy( sumas, hoja, sumas, hoja + 1, tamanio - indice );
+        ponerHoja( indice, elemento );
+        tamanio++;
+        recalcularRango( indice, tamanio );
+        modCount++;
+    }
+
+    @Override
+    public Integer remove( int indice )
+    {
+        revisarIndice( indice, tamanio );
+        int hoja = capacidad + indice;
+        int eliminado = minimos[ hoja ];
+        System.arraycopy( minimos, hoja + 1, minimos, hoja, tamanio - indice - 1 );
+        System.arraycopy( maximos, hoja + 1, maximos, hoja, tamanio - indice - 1 );
+        System.arraycopy( sumas, hoja + 1, sumas, hoja, tamanio - indice - 1 );
+        tamanio--;
+        vaciarHoja( tamanio );
+        recalcularRango( indice, tamanio + 1 );
+        modCount++;
+        return eliminado;
+    }
+
+    /**
+     * Agrega los elementos al final y recalcula el árbol una sola vez. Los elementos se copian antes de modificar la lista, así que la colección puede ser la misma lista.
+     * @throws NullPointerException Si algún elemento es null. En ese caso la lista no cambia.
+     */
+    @Override
+    public boolean addAll( Collection<? extends Integer> elementos )
+    {
+        Integer[] nuevos = elementos.toArray( new Integer[0] );
+        if( nuevos.length == 0 )
+        {
+            return false;
+        }
+        for( Integer elemento : nuevos )
+        {
+            if( elemento == null )
+            {
+                throw new NullPointerException( "La lista no acepta elementos null" );
+            }
+        }
+        while( tamanio + nuevos.length > capacidad )
+        {
+            crecer( );
+        }
+        int inicio = tamanio;
+        for( Integer elemento : nuevos )
+        {
+            ponerHoja( tamanio++, elemento );
+        }
+        recalcularRango( inicio, tamanio );
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear( )
+    {
+        inicializar( CAPACIDAD_INICIAL );
+        modCount++;
+    }
+
+    /**
+     * Reemplaza todos los elementos y reconstruye el árbol una sola vez, en O(n). Los nuevos valores se calculan antes de escribir las hojas.
+     * @throws NullPointerException Si el operador retorna null para algún elemento. En ese caso la lista no cambia.
+     */
+    @Override
+    public void replaceAll( UnaryOperator<Integer> operador )
+    {
+        int[] nuevos = new int[tamanio];
+        for( int i = 0; i < tamanio; i++ )
+        {
+            Integer nuevo = operador.apply( minimos[ capacidad + i ] );
+            if( nuevo == null )
+            {
+                throw new NullPointerException( "La lista no acepta elementos null" );
+            }
+            nuevos[ i ] = nuevo;
+        }
+        for( int i = 0; i < tamanio; i++ )
+        {
+            ponerHoja( i, nuevos[ i ] );
+        }
+        recalcularRango( 0, tamanio );
+        modCount++;
+    }
+
+    /**
+     * Ordena los elementos y reconstruye el árbol una sola vez
+     */
+    @Override
+    public void sort( Comparator<? super Integer> comparador )
+    {
+        Integer[] ordenados = toArray( new Integer[tamanio] );
+        Arrays.sort( ordenados, comparador );
+        for( int i = 0; i < tamanio; i++ )
+        {
+            ponerHoja( i, ordenados[ i ] );
+        }
+        recalcularRango( 0, tamanio );
+        modCount++;
+    }
+
+    /**
+     * Retorna el menor valor entre las posiciones 'desde' (incluida) y 'hasta' (excluida)
+     * @param desde La primera posición del rango
+     * @param hasta La posición siguiente a la última del rango
+     * @return El menor valor del rango
+     * @throws IllegalArgumentException Si el rango está vacío
+     */
+    public int minimo( int desde, int hasta )
+    {
+        revisarRangoNoVacio( desde, hasta );
+        int resultado = Integer.MAX_VALUE;
+        for( int izquierda = desde + capacidad, derecha = hasta + capacidad; izquierda < derecha; izquierda >>= 1, derecha >>= 1 )
+        {
+            if( ( izquierda & 1 ) == 1 )
+                resultado = Math.min( resultado, minimos[ izquierda++ ] );
+            if( ( derecha & 1 ) == 1 )
+                resultado = Math.min( resultado, minimos[ --derecha ] );
+        }
+        return resultado;
+    }
+
+    /**
+     * Retorna el mayor valor entre las posiciones 'desde' (incluida) y 'hasta' (excluida)
+     * @param desde La primera posición del rango
+     * @param hasta La posición siguiente a la última del rango
+     * @return El mayor valor del rango
+     * @throws IllegalArgumentException Si el rango está vacío
+     */
+    public int maximo( int desde, int hasta )
+    {
+        revisarRangoNoVacio( desde, hasta );
+        int resultado = Integer.MIN_VALUE;
+        for( int izquierda = desde + capacidad, derecha = hasta + capacidad; izquierda < derecha; izquierda >>= 1, derecha >>= 1 )
+        {
+            if( ( izquierda & 1 ) == 1 )
+                resultado = Math.max( resultado, maximos[ izquierda++ ] );
+            if( ( derecha & 1 ) == 1 )
+                resultado = Math.max( resultado, maximos[ --derecha ] );
+        }
+        return resultado;
+    }
+
+    /**
+     * Retorna la suma de los valores entre las posiciones 'desde' (incluida) y 'hasta' (excluida)
+     * @param desde La primera posición del rango
+     * @param hasta La posición siguiente a la última del rango
+     * @return La suma de los valores del rango, o 0 si el rango está vacío
+     */
+    public long suma( int desde, int hasta )
+    {
+        revisarRango( desde, hasta );
+        long resultado = 0;
+        for( int izquierda = desde + capacidad, derecha = hasta + capacidad; izquierda < derecha; izquierda >>= 1, derecha >>= 1 )
+        {
+            if( ( izquierda & 1 ) == 1 )
+                resultado += sumas[ izquierda++ ];
+            if( ( derecha & 1 ) == 1 )
+                resultado += sumas[ --derecha ];
+        }
+        return resultado;
+    }
+
+    private void inicializar( int nuevaCapacidad )
+    {
+        capacidad = nuevaCapacidad;
+        minimos = new int[2 * capacidad];
+        maximos = new int[2 * capacidad];
+        sumas = new long[2 * capacidad];
+        Arrays.fill( minimos, Integer.MAX_VALUE );
+        Arrays.fill( maximos, Integer.MIN_VALUE );
+        tamanio = 0;
+    }
+
+    /**
+     * Duplica la cantidad de hojas y reconstruye el árbol
+     */
+    private void crecer( )
+    {
+        if( capacidad >= 1 << 29 )
+        {
+            throw new IllegalStateException( "La lista alcanzó su capacidad máxima" );
+        }
+        int[] hojas = new int[tamanio];
+        System.arraycopy( minimos, capacidad, hojas, 0, tamanio );
+        int cantidad = tamanio;
+        inicializar( capacidad << 1 );
+        for( int i = 0; i < cantidad; i++ )
+        {
+            ponerHoja( i, hojas[ i ] );
+        }
+        tamanio = cantidad;
+        recalcularRango( 0, tamanio );
+    }
+
+    private void ponerHoja( int indice, int valor )
+    {
+        int hoja = capacidad + indice;
+        minimos[ hoja ] = valor;
+        maximos[ hoja ] = valor;
+        sumas[ hoja ] = valor;
+    }
+
+    private void vaciarHoja( int indice )
+    {
+        int hoja = capacidad + indice;
+        minimos[ hoja ] = Integer.MAX_VALUE;
+        maximos[ hoja ] = Integer.MIN_VALUE;
+        sumas[ hoja ] = 0;
+    }
+
+    /**
+     * Recalcula los nodos internos que cubren alguna de las hojas entre 'desde' (incluida) y 'hasta' (excluida), nivel por nivel
+     */
+    private void recalcularRango( int desde, int hasta )
+    {
+        if( desde >= hasta )
+        {
+            return;
+        }
+        int izquierda = ( capacidad + desde ) >> 1;
+        int derecha = ( capacidad + hasta - 1 ) >> 1;
+        while( izquierda > 0 )
+        {
+            for( int nodo = izquierda; nodo <= derecha; nodo++ )
+            {
+                recalcular( nodo );
+            }
+            izquierda >>= 1;
+            derecha >>= 1;
+        }
+    }
+
+    private void recalcular( int nodo )
+    {
+        int izquierdo = 2 * nodo;
+        minimos[ nodo ] = Math.min( minimos[ izquierdo ], minimos[ izquierdo + 1 ] );
+        maximos[ nodo ] = Math.max( maximos[ izquierdo ], maximos[ izquierdo + 1 ] );
+        sumas[ nodo ] = sumas[ izquierdo ] + sumas[ izquierdo + 1 ];
+    }
+
+    private void revisarIndice( int indice, int limite )
+    {
+        if( indice < 0 || indice >= limite )
+        {
+            throw new IndexOutOfBoundsException( "Índice: " + indice + ", tamaño: " + tamanio );
+        }
+    }
+
+    private void revisarRango( int desde, int hasta )
+    {
+        if( desde < 0 || hasta > tamanio || desde > hasta )
+        {
+            throw new IndexOutOfBoundsException( "Rango: [" + desde + ", " + hasta + "), tamaño: " + tamanio );
+        }
+    }
+
+    private void revisarRangoNoVacio( int desde, int hasta )
+    {
+        revisarRango( desde, hasta );
+        if( desde == hasta )
+        {
+            throw new IllegalArgumentException( "El rango está vacío" );
+        }
+    }
+}
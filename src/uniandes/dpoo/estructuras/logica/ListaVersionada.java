@@ -0,0 +1,182 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.UnaryOperator;
+
+/**
+ * Esta clase es una lista modificable que guarda sus elementos en un VectorPersistente, de forma que en cualquier momento puede obtenerse una versión inmutable de la lista
+ * en O(1) con getVersion. Las versiones obtenidas no cambian cuando la lista se modifica después.
+ *
+ * Agregar y eliminar al final y reemplazar un elemento (set) sólo copian O(log32 n) nodos. Insertar o eliminar en una posición intermedia reconstruye el vector en O(n), que es
+ * el mismo costo que tendría en un ArrayList; insertar varios elementos en una posición intermedia con addAll también lo reconstruye una sola vez.
+ *
+ * Esta clase no es segura para ser modificada por varios hilos a la vez, pero las versiones que retorna sí pueden leerse desde cualquier hilo.
+ *
+ * @param <E> El tipo de los elementos de la lista
+ */
+public class ListaVersionada<E> extends AbstractList<E> implements RandomAccess
+{
+    /**
+     * La versión actual de la lista
+     */
+    private VectorPersistente<E> actual;
+
+    /**
+     * Crea una lista vacía
+     */
+    public ListaVersionada( )
+    {
+        actual = VectorPersistente.vacio( );
+    }
+
+    /**
+     * Retorna la versión actual de la lista. Cuesta O(1) y la versión retornada es inmutable.
+     * @return La versión actual de la lista
+     */
+    public VectorPersistente<E> getVersion( )
+    {
+        return actual;
+    }
+
+    @Override
+    public int size( )
+    {
+        return actual.size( );
+    }
+
+    @Override
+    public E get( int indice )
+    {
+        return actual.get( indice );
+    }
+
+    @Override
+    public E set( int indice, E elemento )
+    {
+        E anterior = actual.get( indice );
+        actual = actual.cambiar( indice, elemento );
+        return anterior;
+    }
+
+    @Override
+    public void add( int indice, E elemento )
+    {
+        if( indice == actual.size( ) )
+        {
+            actual = actual.agregar( elemento );
+        }
+        else
+        {
+            List<E> elementos = new ArrayList<E>( actual );
+            elementos.add( indice, elemento );
+            actual = VectorPersistente.desde( elementos );
+        }
+        modCount++;
+    }
+
+    @Override
+    public E remove( int indice )
+    {
+        E eliminado = actual.get( indice );
+        if( indice == actual.size( ) - 1 )
+        {
+            actual = actual.quitarUltimo( );
+        }
+        else
+        {
+            List<E> elementos = new ArrayList<E>( actual );
+            elementos.remove( indice );
+            actual = VectorPersistente.desde( elementos );
+        }
+        modCount++;
+        return eliminado;
+    }
+
+    @Override
+    public boolean addAll( Collection<? extends E> elementos )
+    {
+        if( elementos.isEmpty( ) )
+        {
+            return false;
+        }
+        if( actual.isEmpty( ) )
+        {
+            actual = VectorPersistente.desde( elementos );
+        }
+        else
+        {
+            // Si se agrega la lista a sí misma se recorre la versión actual, que no cambia mientras se agrega
+            Collection<? extends E> nuevos = elementos == this ? actual : elementos;
+            for( E elemento : nuevos )
+            {
+                actual = actual.agregar( elemento );
+            }
+        }
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Inserta todos los elementos de la colección a partir de una posición. Al final equivale a addAll(Collection); en una posición intermedia reconstruye el vector una
+     * sola vez, en O(n + m), en lugar de reconstruirlo por cada elemento insertado.
+     */
+    @Override
+    public boolean addAll( int indice, Collection<? extends E> elementos )
+    {
+        if( indice < 0 || indice > actual.size( ) )
+        {
+            throw new IndexOutOfBoundsException( "Índice: " + indice + ", tamaño: " + actual.size( ) );
+        }
+        if( indice == actual.size( ) )
+        {
+            return addAll( elementos );
+        }
+        if( elementos.isEmpty( ) )
+        {
+            return false;
+        }
+        List<E> nuevos = new ArrayList<E>( actual.size( ) + elementos.size( ) );
+        nuevos.addAll( actual.subList( 0, indice ) );
+        nuevos.addAll( elementos == this ? actual : elementos );
+        nuevos.addAll( actual.subList( indice, actual.size( ) ) );
+        actual = VectorPersistente.desde( nuevos );
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear( )
+    {
+        actual = VectorPersistente.vacio( );
+        modCount++;
+    }
+
+    /**
+     * Ordena la lista reconstruyendo el vector una sola vez, en lugar de reemplazar los elementos uno por uno
+     */
+    @Override
+    public void sort( Comparator<? super E> comparador )
+    {
+        List<E> elementos = new ArrayList<E>( actual );
+        elementos.sort( comparador );
+        actual = VectorPersistente.desde( elementos );
+        modCount++;
+    }
+
+    /**
+     * Reemplaza todos los elementos reconstruyendo el vector una sola vez
+     */
+    @Override
+    public void replaceAll( UnaryOperator<E> operador )
+    {
+        List<E> elementos = new ArrayList<E>( actual );
+        elementos.replaceAll( operador );
+        actual = VectorPersistente.desde( elementos );
+        modCount++;
+    }
+}
@@ -0,0 +1,159 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Esta clase es una llave de mapa que representa una secuencia de caracteres sin copiarla: puede ser una cadena tal cual, o una vista de una cadena leída al revés.
+ *
+ * SandboxMapas usa como llave de cada valor la cadena invertida. Con esta clase la llave es una vista sobre el valor, así que agregar una cadena no crea la cadena
+ * invertida. El hash se calcula una sola vez al crear la llave, con la misma fórmula de String.hashCode sobre la secuencia que representa la llave, y equals compara
+ * la secuencia representada: la vista invertida de "abc" es igual a la llave de "cba".
+ *
+ * Las cadenas con caracteres suplementarios (pares sustitutos de UTF-16) se invierten como lo hace StringBuilder.reverse, que conserva el orden de cada par; para esas
+ * cadenas la llave sí guarda una copia invertida.
+ */
+public final class LlaveInvertida implements CharSequence, Comparable<LlaveInvertida>
+{
+    /**
+     * La cadena sobre la que se construye la llave
+     */
+    private final String fuente;
+
+    /**
+     * Indica si la llave representa la fuente leída al revés
+     */
+    private final boolean invertida;
+
+    /**
+     * El hash de la secuencia que representa la llave
+     */
+    private final int hash;
+
+    private LlaveInvertida( String fuente, boolean invertida )
+    {
+        this.fuente = fuente;
+        this.invertida = invertida;
+        int h = 0;
+        int largo = fuente.length( );
+        for( int i = 0; i < largo; i++ )
+        {
+            h = 31 * h + fuente.charAt( invertida ? largo - 1 - i : i );
+        }
+        this.hash = h;
+    }
+
+    /**
+     * Crea una llave que representa la cadena invertida, sin copiarla
+     * @param cadena La cadena que se invierte
+     * @return Una llave igual a la cadena escrita al revés
+     */
+    public static LlaveInvertida invertir( String cadena )
+    {
+        for( int i = 0; i < cadena.length( ); i++ )
+        {
+            if( Character.isSurrogate( cadena.charAt( i ) ) )
+            {
+                return new LlaveInvertida( new StringBuilder( cadena ).reverse( ).toString( ), false );
+            }
+        }
+        return new LlaveInvertida( cadena, true );
+    }
+
+    /**
+     * Crea una llave que representa la cadena tal cual, por ejemplo para buscar en el mapa una llave que se recibe como String
+     * @param llave La cadena de la llave
+     * @return Una llave igual a la cadena
+     */
+    public static LlaveInvertida de( String llave )
+    {
+        return new LlaveInvertida( llave, false );
+    }
+
+    @Override
+    public int length( )
+    {
+        return fuente.length( );
+    }
+
+    @Override
+    public char charAt( int indice )
+    {
+        if( !invertida )
+        {
+            return fuente.charAt( indice );
+        }
+        if( indice < 0 || indice >= fuente.length( ) )
+        {
+            throw new IndexOutOfBoundsException( "Índice: " + indice );
+        }
+        return fuente.charAt( fuente.length( ) - 1 - indice );
+    }
+
+    @Override
+    public CharSequence subSequence( int inicio, int fin )
+    {
+        return toString( ).subSequence( inicio, fin );
+    }
+
+    /**
+     * Retorna la secuencia que representa la llave como String. Si la llave es una vista invertida, crea la cadena invertida.
+     */
+    @Override
+    public String toString( )
+    {
+        return invertida ? new StringBuilder( fuente ).reverse( ).toString( ) : fuente;
+    }
+
+    @Override
+    public int hashCode( )
+    {
+        return hash;
+    }
+
+    @Override
+    public boolean equals( Object objeto )
+    {
+        if( this == objeto )
+        {
+            return true;
+        }
+        if( !( objeto instanceof LlaveInvertida ) )
+        {
+            return false;
+        }
+        LlaveInvertida otra = (LlaveInvertida)objeto;
+        if( otra.hash != hash || otra.fuente.length( ) != fuente.length( ) )
+        {
+            return false;
+        }
+        if( otra.invertida == invertida )
+        {
+            return otra.fuente.equals( fuente );
+        }
+        for( int i = 0; i < fuente.length( ); i++ )
+        {
+            if( charAt( i ) != otra.charAt( i ) )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compara las secuencias que representan las llaves en orden lexicográfico, igual que String.compareTo
+     */
+    @Override
+    public int compareTo( LlaveInvertida otra )
+    {
+        int largo = Math.min( length( ), otra.length( ) );
+        for( int i = 0; i < largo; i++ )
+        {
+            char propio = charAt( i );
+            char ajeno = otra.charAt( i );
+            if( propio != ajeno )
+            {
+                return propio - ajeno;
+            }
+        }
+        return length( ) - otra.length( );
+    }
+}
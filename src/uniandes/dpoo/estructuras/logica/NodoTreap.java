@@ -0,0 +1,257 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Esta clase es un nodo de un treap donde cada nodo conoce el tamaño de su subárbol, con las operaciones para mantenerlo balanceado. La usan ListaArbol y
+ * ArbolEstadisticoCadenas.
+ *
+ * Todas las operaciones ubican los elementos por su posición en el recorrido en orden (la cantidad de nodos a su izquierda), así que ninguna compara valores: un árbol
+ * ordenado calcula primero la posición de un valor y luego usa estas operaciones. Cada una cuesta O(log n) esperado, salvo construir, que cuesta O(n).
+ *
+ * @param <E> El tipo de los valores de los nodos
+ */
+final class NodoTreap<E>
+{
+    E valor;
+
+    /**
+     * La prioridad aleatoria del nodo. El árbol es un heap respecto a las prioridades: ningún nodo tiene una prioridad mayor a la de su padre.
+     */
+    private int prioridad;
+
+    /**
+     * La cantidad de nodos del subárbol que empieza en este nodo
+     */
+    private int tamanio;
+
+    NodoTreap<E> izquierdo;
+
+    NodoTreap<E> derecho;
+
+    /**
+     * Crea un nodo sin hijos, con una prioridad aleatoria
+     * @param valor El valor del nodo
+     */
+    NodoTreap( E valor )
+    {
+        this.valor = valor;
+        this.prioridad = ThreadLocalRandom.current( ).nextInt( );
+        this.tamanio = 1;
+    }
+
+    /**
+     * Retorna la cantidad de nodos de un subárbol
+     * @param nodo La raíz del subárbol, o null si está vacío
+     * @return La cantidad de nodos
+     */
+    static int tamanio( NodoTreap<?> nodo )
+    {
+        return nodo == null ? 0 : nodo.tamanio;
+    }
+
+    /**
+     * Busca el nodo en una posición. La posición debe estar entre 0 y tamanio(raiz) - 1.
+     */
+    static <E> NodoTreap<E> buscar( NodoTreap<E> raiz, int posicion )
+    {
+        NodoTreap<E> actual = raiz;
+        int restante = posicion;
+        while( true )
+        {
+            int izquierdos = tamanio( actual.izquierdo );
+            if( restante < izquierdos )
+            {
+                actual = actual.izquierdo;
+            }
+            else if( restante == izquierdos )
+            {
+                return actual;
+            }
+            else
+            {
+                restante -= izquierdos + 1;
+                actual = actual.derecho;
+            }
+        }
+    }
+
+    /**
+     * Inserta un nodo nuevo para que quede en una posición del subárbol
+     * @return La nueva raíz del subárbol
+     */
+    static <E> NodoTreap<E> insertar( NodoTreap<E> nodo, int posicion, NodoTreap<E> nuevo )
+    {
+        if( nodo == null )
+        {
+            return nuevo;
+        }
+        int izquierdos = tamanio( nodo.izquierdo );
+        if( posicion <= izquierdos )
+        {
+            nodo.izquierdo = insertar( nodo.izquierdo, posicion, nuevo );
+            if( nodo.izquierdo.prioridad > nodo.prioridad )
+            {
+                return rotarDerecha( nodo );
+            }
+        }
+        else
+        {
+            nodo.derecho = insertar( nodo.derecho, posicion - izquierdos - 1, nuevo );
+            if( nodo.derecho.prioridad > nodo.prioridad )
+            {
+                return rotarIzquierda( nodo );
+            }
+        }
+        actualizar( nodo );
+        return nodo;
+    }
+
+    /**
+     * Elimina el nodo de una posición del subárbol. La posición debe ser válida.
+     * @return La nueva raíz del subárbol
+     */
+    static <E> NodoTreap<E> eliminar( NodoTreap<E> nodo, int posicion )
+    {
+        int izquierdos = tamanio( nodo.izquierdo );
+        if( posicion == izquierdos )
+        {
+            return unir( nodo.izquierdo, nodo.derecho );
+        }
+        if( posicion < izquierdos )
+        {
+            nodo.izquierdo = eliminar( nodo.izquierdo, posicion );
+        }
+        else
+        {
+            nodo.derecho = eliminar( nodo.derecho, posicion - izquierdos - 1 );
+        }
+        actualizar( nodo );
+        return nodo;
+    }
+
+    /**
+     * Une dos árboles, donde todos los nodos del primero quedan antes que los del segundo
+     * @return La raíz del árbol unido
+     */
+    static <E> NodoTreap<E> unir( NodoTreap<E> primero, NodoTreap<E> segundo )
+    {
+        if( primero == null )
+        {
+            return segundo;
+        }
+        if( segundo == null )
+        {
+            return primero;
+        }
+        if( primero.prioridad > segundo.prioridad )
+        {
+            primero.derecho = unir( primero.derecho, segundo );
+            actualizar( primero );
+            return primero;
+        }
+        segundo.izquierdo = unir( primero, segundo.izquierdo );
+        actualizar( segundo );
+        return segundo;
+    }
+
+    /**
+     * Divide un árbol en dos: el primero con los primeros 'cantidad' nodos y el segundo con el resto
+     * @return Un arreglo con las raíces de las dos partes; cualquiera puede ser null
+     */
+    @SuppressWarnings("unchecked")
+    static <E> NodoTreap<E>[] dividir( NodoTreap<E> nodo, int cantidad )
+    {
+        if( nodo == null )
+        {
+            return (NodoTreap<E>[]) new NodoTreap<?>[2];
+        }
+        int izquierdos = tamanio( nodo.izquierdo );
+        if( cantidad <= izquierdos )
+        {
+            NodoTreap<E>[] partes = dividir( nodo.izquierdo, cantidad );
+            nodo.izquierdo = partes[ 1 ];
+            actualizar( nodo );
+            partes[ 1 ] = nodo;
+            return partes;
+        }
+        NodoTreap<E>[] partes = dividir( nodo.derecho, cantidad - izquierdos - 1 );
+        nodo.derecho = partes[ 0 ];
+        actualizar( nodo );
+        partes[ 0 ] = nodo;
+        return partes;
+    }
+
+    /**
+     * Construye en O(n) un árbol balanceado con los valores entre 'desde' (incluido) y 'hasta' (excluido), en el mismo orden que el arreglo
+     * @param valores Los valores. Todos deben ser de tipo E.
+     * @return La raíz del árbol, o null si el rango está vacío
+     */
+    @SuppressWarnings("unchecked")
+    static <E> NodoTreap<E> construir( Object[] valores, int desde, int hasta )
+    {
+        if( desde >= hasta )
+        {
+            return null;
+        }
+        int medio = ( desde + hasta ) >>> 1;
+        NodoTreap<E> nodo = new NodoTreap<E>( (E)valores[ medio ] );
+        nodo.izquierdo = construir( valores, desde, medio );
+        nodo.derecho = construir( valores, medio + 1, hasta );
+        actualizar( nodo );
+        hundir( nodo );
+        return nodo;
+    }
+
+    /**
+     * Intercambia prioridades hacia abajo hasta que el subárbol vuelva a ser un heap. La forma del árbol no cambia.
+     */
+    private static void hundir( NodoTreap<?> nodo )
+    {
+        while( true )
+        {
+            NodoTreap<?> mayor = nodo;
+            if( nodo.izquierdo != null && nodo.izquierdo.prioridad > mayor.prioridad )
+            {
+                mayor = nodo.izquierdo;
+            }
+            if( nodo.derecho != null && nodo.derecho.prioridad > mayor.prioridad )
+            {
+                mayor = nodo.derecho;
+            }
+            if( mayor == nodo )
+            {
+                return;
+            }
+            int prioridad = nodo.prioridad;
+            nodo.prioridad = mayor.prioridad;
+            mayor.prioridad = prioridad;
+            nodo = mayor;
+        }
+    }
+
+    private static <E> NodoTreap<E> rotarDerecha( NodoTreap<E> nodo )
+    {
+        NodoTreap<E> nuevaRaiz = nodo.izquierdo;
+        nodo.izquierdo = nuevaRaiz.derecho;
+        nuevaRaiz.derecho = nodo;
+        actualizar( nodo );
+        actualizar( nuevaRaiz );
+        return nuevaRaiz;
+    }
+
+    private static <E> NodoTreap<E> rotarIzquierda( NodoTreap<E> nodo )
+    {
+        NodoTreap<E> nuevaRaiz = nodo.derecho;
+        nodo.derecho = nuevaRaiz.izquierdo;
+        nuevaRaiz.izquierdo = nodo;
+        actualizar( nodo );
+        actualizar( nuevaRaiz );
+        return nuevaRaiz;
+    }
+
+    private static void actualizar( NodoTreap<?> nodo )
+    {
+        nodo.tamanio = 1 + tamanio( nodo.izquierdo ) + tamanio( nodo.derecho );
+    }
+}
@@ -0,0 +1,248 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Esta clase es un registro de enteros al que sólo se le pueden agregar valores al final, y que puede ser usado por varios hilos a la vez sin cerrojos.
+ *
+ * Los valores se guardan en bloques de tamaño fijo que se crean a medida que se necesitan, así que agregar un valor nunca copia los anteriores.
+ *
+ * Cada productor reserva una posición con un compareAndSet sobre el índice de la cola, escribe el valor en esa posición y luego la marca como publicada. Los lectores sólo ven
+ * el prefijo publicado: la secuencia más larga de posiciones, empezando en 0, que ya fueron escritas por completo. Un valor reservado pero todavía no escrito nunca es
+ * visible, aunque haya valores publicados después de él.
+ */
+public class RegistroEnteros
+{
+    /**
+     * La cantidad de bits del índice que corresponden a la posición dentro de un bloque
+     */
+    private static final int BITS_BLOQUE = 14;
+
+    /**
+     * La cantidad de valores en cada bloque
+     */
+    private static final int TAMANIO_BLOQUE = 1 << BITS_BLOQUE;
+
+    /**
+     * La cantidad máxima de bloques del registro
+     */
+    private static final int MAXIMO_BLOQUES = 1 << 16;
+
+    /**
+     * La cantidad máxima de valores que puede tener el registro
+     */
+    public static final long CAPACIDAD = (long)TAMANIO_BLOQUE * MAXIMO_BLOQUES;
+
+    /**
+     * Un bloque del registro: los valores y una marca por cada posición que indica si el valor ya fue escrito.
+     */
+    private static final class Bloque
+    {
+        private final int[] valores = new int[TAMANIO_BLOQUE];
+
+        private final AtomicIntegerArray publicados = new AtomicIntegerArray( TAMANIO_BLOQUE );
+    }
+
+    /**
+     * Los bloques del registro. Las posiciones se llenan a medida que los productores llegan a un bloque nuevo.
+     */
+    private final AtomicReferenceArray<Bloque> bloques;
+
+    /**
+     * La siguiente posición que puede reservar un productor
+     */
+    private final AtomicLong cola;
+
+    /**
+     * Una cota inferior del tamaño del prefijo publicado. Cualquier hilo puede avanzarla.
+     */
+    private final AtomicLong publicado;
+
+    /**
+     * Crea un registro vacío
+     */
+    public RegistroEnteros( )
+    {
+        bloques = new AtomicReferenceArray<Bloque>( MAXIMO_BLOQUES );
+        cola = new AtomicLong( 0 );
+        publicado = new AtomicLong( 0 );
+    }
+
+    /**
+     * Agrega un valor al final del registro. Este método puede ser llamado por varios hilos a la vez.
+     * @param entero El valor que se va a agregar
+     * @throws IllegalStateException Si el registro ya alcanzó su capacidad máxima
+     */
+    public void agregar( int entero )
+    {
+        long posicion = reservar( 1 );
+        escribir( posicion, entero );
+    }
+
+    /**
+     * Agrega al final del registro todos los valores del arreglo, en posiciones consecutivas. Reserva todas las posiciones con una sola operación sobre la cola, así que es
+     * más eficiente que agregar los valores uno por uno.
+     * @param enteros Los valores que se van a agregar
+     * @throws IllegalStateException Si los valores no caben en el registro
+     */
+    public void agregarTodos( int[] enteros )
+    {
+        long posicion = reservar( enteros.length );
+        for( int i = 0; i < enteros.length; i++ )
+        {
+            escribir( posicion + i, enteros[ i ] );
+        }
+    }
+
+    /**
+     * Retorna la cantidad de valores publicados, es decir el tamaño del prefijo del registro que ya puede leerse
+     * @return La cantidad de valores que pueden leerse con get
+     */
+    public long getTamanioPublicado( )
+    {
+        long actual = publicado.get( );
+        long limite = cola.get( );
+        long nuevo = actual;
+        while( nuevo < limite && estaPublicado( nuevo ) )
+        {
+            nuevo++;
+        }
+        while( nuevo > actual && !publicado.compareAndSet( actual, nuevo ) )
+        {
+            actual = publicado.get( );
+        }
+        return Math.max( nuevo, actual );
+    }
+
+    /**
+     * Retorna el valor en una posición del prefijo publicado
+     * @param posicion La posición del valor
+     * @return El valor en la posición
+     * @throws IndexOutOfBoundsException Si la posición no hace parte del prefijo publicado
+     */
+    public int get( long posicion )
+    {
+        if( posicion < 0 || posicion >= getTamanioPublicado( ) )
+        {
+            throw new IndexOutOfBoundsException( "Posición no publicada: " + posicion );
+        }
+        return bloques.get( (int) ( posicion >>> BITS_BLOQUE ) ).valores[ (int) ( posicion & ( TAMANIO_BLOQUE - 1 ) ) ];
+    }
+
+    /**
+     * Copia en un arreglo los valores publicados entre la posición 'desde' y el final del prefijo publicado
+     * @param desde La primera posición que se copia
+     * @return Un arreglo con los valores publicados a partir de 'desde'. Si no hay valores nuevos el arreglo está vacío.
+     */
+    public int[] getPublicadosDesde( long desde )
+    {
+        long hasta = getTamanioPublicado( );
+        if( desde >= hasta )
+        {
+            return new int[0];
+        }
+        if( hasta - desde > Integer.MAX_VALUE - 8 )
+        {
+            throw new IllegalStateException( "Hay demasiados valores publicados para copiarlos en un arreglo" );
+        }
+        int[] copia = new int[(int) ( hasta - desde )];
+        int copiados = 0;
+        long posicion = desde;
+        while( posicion < hasta )
+        {
+            int[] valores = bloques.get( (int) ( posicion >>> BITS_BLOQUE ) ).valores;
+            int inicio = (int) ( posicion & ( TAMANIO_BLOQUE - 1 ) );
+            int cantidad = (int) Math.min( TAMANIO_BLOQUE - inicio, hasta - posicion );
+            System.arraycopy( valores, inicio, copia, copiados, cantidad );
+            copiados += cantidad;
+            posicion += cantidad;
+        }
+        return copia;
+    }
+
+    /**
+     * Retorna una copia de los valores publicados
+     * @return Una lista con los valores del prefijo publicado
+     */
+    public List<Integer> getCopiaEnteros( )
+    {
+        int[] valores = getPublicadosDesde( 0 );
+        List<Integer> copia = new ArrayList<>( valores.length );
+        for( int valor : valores )
+        {
+            copia.add( valor );
+        }
+        return copia;
+    }
+
+    /**
+     * Reserva posiciones consecutivas al final del registro
+     * @param cantidad La cantidad de posiciones que se reservan
+     * @return La primera posición reservada
+     */
+    private long reservar( int cantidad )
+    {
+        long posicion;
+        do
+        {
+            posicion = cola.get( );
+            if( posicion + cantidad > CAPACIDAD )
+            {
+                throw new IllegalStateException( "El registro alcanzó su capacidad máxima de " + CAPACIDAD + " valores" );
+            }
+        } while( !cola.compareAndSet( posicion, posicion + cantidad ) );
+        return posicion;
+    }
+
+    /**
+     * Escribe un valor en una posición reservada y la marca como publicada
+     * @param posicion La posición reservada
+     * @param entero El valor que se escribe
+     */
+    private void escribir( long posicion, int entero )
+    {
+        Bloque bloque = getBloque( (int) ( posicion >>> BITS_BLOQUE ) );
+        int indice = (int) ( posicion & ( TAMANIO_BLOQUE - 1 ) );
+        bloque.valores[ indice ] = entero;
+        // La escritura de la marca ordena la escritura del valor antes que ella, así que quien vea la marca también ve el valor
+        bloque.publicados.lazySet( indice, 1 );
+    }
+
+    /**
+     * Indica si el valor en una posición ya fue escrito
+     * @param posicion La posición consultada. Debe ser menor a la cola.
+     * @return True si el valor ya puede leerse
+     */
+    private boolean estaPublicado( long posicion )
+    {
+        Bloque bloque = bloques.get( (int) ( posicion >>> BITS_BLOQUE ) );
+        return bloque != null && bloque.publicados.get( (int) ( posicion & ( TAMANIO_BLOQUE - 1 ) ) ) == 1;
+    }
+
+    /**
+     * Retorna un bloque, creándolo si ningún productor lo ha creado todavía
+     * @param numero El número del bloque
+     * @return El bloque
+     */
+    private Bloque getBloque( int numero )
+    {
+        Bloque bloque = bloques.get( numero );
+        if( bloque == null )
+        {
+            Bloque nuevo = new Bloque( );
+            if( bloques.compareAndSet( numero, null, nuevo ) )
+            {
+                bloque = nuevo;
+            }
+            else
+            {
+                bloque = bloques.get( numero );
+            }
+        }
+        return bloque;
+    }
+}
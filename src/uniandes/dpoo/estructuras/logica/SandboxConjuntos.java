@@ -1,15 +1,20 @@
 package uniandes.dpoo.estructuras.logica;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.NavigableSet;
+import java.util.NoSuchElementException;
 import java.util.TreeSet;
-
-import javax.swing.text.html.HTMLDocument.Iterator;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * Esta clase tiene un conjunto de métodos para practicar operaciones sobre conjuntos implementados usando un árbol (TreeSet).
@@ -20,7 +25,17 @@ import javax.swing.text.html.HTMLDocument.Iterator;
  * 
  * A diferencia de un Set, en un NavigableSet existe una noción de orden que en este caso corresponde al órden lexicográfico.
  * 
- * No pueden agregarse nuevos atributos.
+ * No pueden agregarse nuevos atributos, salvo índices derivados de arbolCadenas que se mantienen sincronizados con él.
+ * 
+ * En modo concurrente arbolCadenas es un ConcurrentSkipListSet y la clase puede usarse desde varios hilos sin sincronización externa. En ese modo no se construyen índices:
+ * las consultas que los usan recorren directamente el conjunto, que ya está ordenado. Las operaciones que reemplazan todo el conjunto ordenan las cadenas en un arreglo e
+ * insertan las diferentes en una lista de saltos nueva, en O(n log n).
+ * 
+ * En modo de colación arbolCadenas se ordena con las reglas de un idioma (ComparadorColacion) en lugar del orden lexicográfico: getPrimera, getUltima, getSiguientes, las
+ * consultas por posición y los recorridos siguen ese orden. El comparador guarda la llave de colación de cada cadena del conjunto, así que cada comparación es una
+ * comparación de bytes.
+ * 
+ * Un conjunto abierto desde un archivo (abrir) empieza con arbolCadenas sobre el archivo mapeado en memoria, y sólo se copia a un TreeSet la primera vez que se modifica.
  */
 public class SandboxConjuntos
 {
@@ -28,15 +43,69 @@ public class SandboxConjuntos
      * Un conjunto (set) de cadenas para realizar varias de las siguientes operaciones.
      * 
      * Por defecto, los elementos del conjunto están ordenados lexicográficamente.
+     * 
+     * Es volatile porque las operaciones que transforman todo el conjunto lo reemplazan por uno nuevo, que debe ser visible para los demás hilos en modo concurrente.
+     */
+    private volatile NavigableSet<String> arbolCadenas;
+
+    /**
+     * Un índice de las cadenas de arbolCadenas para las consultas por prefijo.
+     * 
+     * Es null hasta la primera consulta por prefijo; desde ese momento se mantiene actualizado con cada cambio en arbolCadenas. Cuando arbolCadenas se reemplaza por
+     * completo vuelve a ser null.
      */
-    private NavigableSet<String> arbolCadenas;
+    private TrieCadenas indicePrefijos;
+
+    /**
+     * Un índice de las cadenas de arbolCadenas agrupadas sin tener en cuenta mayúsculas y minúsculas. Se construye y se mantiene igual que indicePrefijos.
+     */
+    private IndiceSinMayusculas indiceSinMayusculas;
+
+    /**
+     * Un filtro de Bloom de las cadenas de arbolCadenas, para descartar rápidamente las cadenas que no están en el conjunto. Se construye y se mantiene igual que
+     * indicePrefijos, y además se reconstruye cuando las eliminaciones lo vuelven impreciso.
+     */
+    private FiltroBloom filtroCadenas;
+
+    /**
+     * Un árbol de estadísticos de orden con las cadenas de arbolCadenas, para las consultas por posición. Se construye y se mantiene igual que indicePrefijos.
+     */
+    private ArbolEstadisticoCadenas indiceOrden;
 
     /**
      * Crea una nueva instancia de la clase con las dos listas inicializadas pero vacías
      */
     public SandboxConjuntos( )
     {
-        arbolCadenas = new TreeSet<String>( );
+        this( false );
+    }
+
+    /**
+     * Crea una nueva instancia de la clase con el conjunto vacío.
+     * 
+     * En modo concurrente el conjunto es un ConcurrentSkipListSet: agregar, eliminar, getPrimera, getUltima, getSiguientes y eliminarPrimera no usan candados, y las vistas
+     * que se retornan son débilmente consistentes (pueden o no reflejar los cambios que otros hilos hacen mientras se recorren). Las operaciones que reemplazan todo el
+     * conjunto (reiniciarConjuntoCadenas y volverMayusculas) no son atómicas respecto a las modificaciones que se hagan al mismo tiempo.
+     * @param concurrente Indica si el conjunto debe poder usarse desde varios hilos
+     */
+    public SandboxConjuntos( boolean concurrente )
+    {
+        if( concurrente )
+            arbolCadenas = new ConcurrentSkipListSet<String>( );
+        else
+            arbolCadenas = new TreeSet<String>( );
+    }
+
+    /**
+     * Crea una nueva instancia de la clase con el conjunto vacío, en modo de colación: las cadenas se ordenan con las reglas del idioma de la localidad, por ejemplo para
+     * que con Locale.forLanguageTag("es") las palabras con "ñ" queden después de las palabras con "n" y las palabras con tilde queden junto a las palabras sin tilde.
+     * 
+     * El modo de colación no es concurrente.
+     * @param localidad La localidad cuyas reglas de ordenamiento se usan
+     */
+    public SandboxConjuntos( Locale localidad )
+    {
+        arbolCadenas = new TreeSet<String>( new ComparadorColacion( localidad ) );
     }
 
     /**
@@ -54,11 +123,48 @@ public class SandboxConjuntos
      */
     public List<String> getCadenasComoListaInvertida( )
     {
-        List<String> listaInvertida = new LinkedList<>();
-        for (String cadena : arbolCadenas.descendingSet()) {
-            listaInvertida.add(cadena);
-        }
-        return listaInvertida; 
+    	// Una copia modificable en un solo arreglo del tamaño justo, igual que getCadenasComoLista
+    	return new ArrayList<>(arbolCadenas.descendingSet());
+    }
+
+    /**
+     * Retorna una vista de sólo lectura de las cadenas del conjunto, ordenadas lexicográficamente, sin copiarlas.
+     * 
+     * A diferencia de getCadenasComoLista, la vista refleja los cambios posteriores al conjunto. Recorrerla, o pedir las posiciones en orden con get, cuesta O(n) en total.
+     * @return Una vista con las cadenas ordenadas
+     */
+    public List<String> getVistaCadenas( )
+    {
+    	return new VistaListaConjunto<>(() -> arbolCadenas, false);
+    }
+
+    /**
+     * Retorna una vista de sólo lectura de las cadenas del conjunto, ordenadas lexicográficamente de mayor a menor, sin copiarlas.
+     * 
+     * A diferencia de getCadenasComoListaInvertida, la vista refleja los cambios posteriores al conjunto.
+     * @return Una vista con las cadenas ordenadas de mayor a menor
+     */
+    public List<String> getVistaCadenasInvertida( )
+    {
+    	return new VistaListaConjunto<>(() -> arbolCadenas, true);
+    }
+
+    /**
+     * Retorna una copia inmutable de las cadenas del conjunto, ordenadas lexicográficamente y comprimidas por prefijos.
+     *
+     * La copia se construye en un solo recorrido del conjunto y ocupa mucho menos memoria que el conjunto o que la lista de getCadenasComoLista, así que es la mejor opción
+     * cuando sólo se necesita recorrer o buscar en las cadenas. Los cambios posteriores al conjunto no la afectan.
+     * 
+     * En modo de colación las cadenas se reordenan lexicográficamente antes de comprimirlas.
+     * @return Una copia compacta de las cadenas del conjunto
+     */
+    public ConjuntoCadenasCompacto getCopiaCompacta( )
+    {
+    	if (getColacion() != null) {
+    		// Se pasa como Collection para que el TreeSet no herede el comparador de colación
+    		return ConjuntoCadenasCompacto.desde(new TreeSet<>((Collection<String>) arbolCadenas));
+    	}
+    	return ConjuntoCadenasCompacto.desde(arbolCadenas);
     }
 
     /**
@@ -69,9 +175,12 @@ public class SandboxConjuntos
      */
     public String getPrimera( )
     {
+    	// Se pide directamente el elemento en lugar de revisar antes el tamaño, para que la consulta sea una sola operación atómica en modo concurrente
     	String primero = null;
-    	if (arbolCadenas.size() > 0) {
+    	try {
     		primero = arbolCadenas.first();
+    	} catch (NoSuchElementException e) {
+    		// El conjunto está vacío
     	}
         return primero;
     }
@@ -85,8 +194,10 @@ public class SandboxConjuntos
     public String getUltima( )
     {
     	String ultimo = null;
-    	if (arbolCadenas.size() > 0) {
+    	try {
     		ultimo = arbolCadenas.last();
+    	} catch (NoSuchElementException e) {
+    		// El conjunto está vacío
     	}
         return ultimo;
     }
@@ -98,14 +209,128 @@ public class SandboxConjuntos
      */
     public Collection<String> getSiguientes( String cadena )
     {
-    	Collection<String> nuevo =  arbolCadenas.tailSet(cadena);
+    	// La vista no puede modificarse, porque los cambios hechos a través de ella no actualizarían los índices
+    	Collection<String> nuevo = Collections.unmodifiableCollection(arbolCadenas.tailSet(cadena));
     	
     	
         return nuevo;
     }
 
     /**
-     * Retorna la cantidad de valores en el conjunto de cadenas
+     * Retorna las cadenas del conjunto que empiezan con el prefijo dado, en orden lexicográfico (también en modo de colación).
+     * 
+     * La consulta usa un trie comprimido, así que cuesta O(largo del prefijo + cantidad de resultados) sin importar cuántas cadenas tenga el conjunto. En modo concurrente
+     * se recorren las cadenas del conjunto a partir del prefijo, en O(log n + cantidad de resultados).
+     * @param prefijo El prefijo de las cadenas buscadas
+     * @param limite La cantidad máxima de cadenas que se retornan
+     * @return Una lista con a lo sumo 'limite' cadenas que empiezan con el prefijo
+     */
+    public List<String> getConPrefijo( String prefijo, int limite )
+    {
+    	if (esConcurrente()) {
+    		List<String> resultado = new ArrayList<>();
+    		for (String cadena : arbolCadenas.tailSet(prefijo)) {
+    			if (resultado.size() >= limite || !cadena.startsWith(prefijo)) {
+    				break;
+    			}
+    			resultado.add(cadena);
+    		}
+    		return resultado;
+    	}
+    	return getIndicePrefijos().getConPrefijo(prefijo, limite);
+    }
+
+    /**
+     * Retorna las cadenas del conjunto que están a una distancia de edición (cantidad de caracteres insertados, eliminados o cambiados) de a lo sumo maxDistancia de la
+     * cadena dada, para encontrar lo que el usuario quiso escribir. Las cadenas más cercanas van primero; las que están a la misma distancia van en orden lexicográfico.
+     * 
+     * La búsqueda recorre el trie de las consultas por prefijo calculando las distancias una sola vez por cada prefijo común, y abandona las ramas que ya están demasiado
+     * lejos, así que sólo visita una pequeña parte del conjunto. En modo concurrente se calcula la distancia a cada cadena del conjunto de largo parecido.
+     * @param cadena La cadena buscada, posiblemente mal escrita
+     * @param maxDistancia La distancia de edición máxima de los resultados
+     * @param limite La cantidad máxima de cadenas que se retornan
+     * @return Una lista con a lo sumo 'limite' cadenas similares a la cadena dada
+     */
+    public List<String> buscarSimilares( String cadena, int maxDistancia, int limite )
+    {
+    	if (!esConcurrente()) {
+    		return getIndicePrefijos().buscarSimilares(cadena, maxDistancia, limite);
+    	}
+    	List<List<String>> porDistancia = new ArrayList<>();
+    	for (int distancia = 0; distancia <= maxDistancia; distancia++) {
+    		porDistancia.add(new ArrayList<>());
+    	}
+    	for (String elemento : arbolCadenas) {
+    		int distancia = TrieCadenas.distanciaAcotada(cadena, elemento, maxDistancia);
+    		if (distancia <= maxDistancia) {
+    			porDistancia.get(distancia).add(elemento);
+    		}
+    	}
+    	List<String> resultado = new ArrayList<>();
+    	for (List<String> grupo : porDistancia) {
+    		resultado.addAll(grupo.subList(0, Math.min(grupo.size(), Math.max(limite - resultado.size(), 0))));
+    	}
+    	return resultado;
+    }
+
+    /**
+     * Retorna la posición que tendría la cadena en el orden del conjunto, es decir, la cantidad de cadenas del conjunto que son menores a ella.
+     * 
+     * La consulta cuesta O(log n) porque usa un árbol de estadísticos de orden; en modo concurrente se cuentan las cadenas menores, en O(posición).
+     * @param cadena La cadena de referencia. No tiene que estar en el conjunto.
+     * @return La cantidad de cadenas menores a la cadena
+     */
+    public int getRango( String cadena )
+    {
+    	if (esConcurrente()) {
+    		return arbolCadenas.headSet(cadena, false).size();
+    	}
+    	return getIndiceOrden().rango(cadena);
+    }
+
+    /**
+     * Retorna la cantidad de cadenas del conjunto que son mayores o iguales a 'desde' y menores a 'hasta', en O(log n).
+     * 
+     * Contar las cadenas después de una cadena (getSiguientes(cadena).size()) es contarEntre(cadena, ...) o, sin límite superior, getCantidadCadenas() - getRango(cadena).
+     * @param desde El inicio del intervalo, incluido
+     * @param hasta El final del intervalo, excluido
+     * @return La cantidad de cadenas en el intervalo, o 0 si 'desde' no es menor a 'hasta'
+     */
+    public int contarEntre( String desde, String hasta )
+    {
+    	if (esConcurrente()) {
+    		return desde.compareTo(hasta) < 0 ? arbolCadenas.subSet(desde, true, hasta, false).size() : 0;
+    	}
+    	return getIndiceOrden().contarEntre(desde, hasta);
+    }
+
+    /**
+     * Retorna la cadena que está en una posición del orden del conjunto, en O(log n). Sirve para paginar el conjunto sin recorrer las páginas anteriores.
+     * @param posicion La posición de la cadena, desde 0
+     * @return La cadena en la posición
+     * @throws IndexOutOfBoundsException Si la posición no está entre 0 y getCantidadCadenas() - 1
+     */
+    public String getPorPosicion( int posicion )
+    {
+    	if (esConcurrente()) {
+    		int actual = 0;
+    		for (String cadena : arbolCadenas) {
+    			if (posicion < 0) {
+    				break;
+    			}
+    			if (actual++ == posicion) {
+    				return cadena;
+    			}
+    		}
+    		throw new IndexOutOfBoundsException("Posición: " + posicion);
+    	}
+    	return getIndiceOrden().getPorPosicion(posicion);
+    }
+
+    /**
+     * Retorna la cantidad de valores en el conjunto de cadenas.
+     * 
+     * En modo concurrente contar las cadenas cuesta O(n) y el resultado puede no ser exacto si otros hilos están modificando el conjunto.
      * @return
      */
     public int getCantidadCadenas( )
@@ -122,7 +347,10 @@ public class SandboxConjuntos
      */
     public void agregarCadena( String cadena )
     {
-    	arbolCadenas.add(cadena);
+    	asegurarModificable();
+    	if (arbolCadenas.add(cadena)) {
+    		registrarEnIndices(cadena);
+    	}
     }
 
     /**
@@ -131,7 +359,10 @@ public class SandboxConjuntos
      */
     public void eliminarCadena( String cadena )
     {
-    	arbolCadenas.remove(cadena);
+    	asegurarModificable();
+    	if (arbolCadenas.remove(cadena)) {
+    		retirarDeIndices(cadena);
+    	}
     }
 
     /**
@@ -139,19 +370,14 @@ public class SandboxConjuntos
      * @param cadena La cadena que se va eliminar, sin tener en cuenta las mayúsculas o minúsculas
      */
     public void eliminarCadenaSinMayusculasOMinusculas(String cadena) {
-        // Crear una lista para almacenar las cadenas a eliminar
-        List<String> cadenasAEliminar = new ArrayList<>();
-
-        // Iterar sobre el conjunto original y agregar las cadenas a eliminar a la lista
-        for (String elemento : arbolCadenas) {
-            if (elemento.equalsIgnoreCase(cadena)) {
-                cadenasAEliminar.add(elemento);
-            }
-        }
+        // Buscar las variantes de la cadena en el índice, en lugar de recorrer todo el conjunto
+        List<String> cadenasAEliminar = new ArrayList<>(getVariantes(cadena));
+        asegurarModificable();
 
         // Eliminar las cadenas de la lista del conjunto original
         for (String cadenaEliminar : cadenasAEliminar) {
             arbolCadenas.remove(cadenaEliminar);
+            retirarDeIndices(cadenaEliminar);
         }
     }
 
@@ -159,11 +385,27 @@ public class SandboxConjuntos
 
 
     /**
-     * Elimina la primera cadena del conjunto
+     * Indica si el conjunto contiene la cadena, sin tener en cuenta mayúsculas y minúsculas
+     * @param cadena La cadena buscada
+     * @return True si alguna cadena del conjunto es igual a la cadena buscada según equalsIgnoreCase
+     */
+    public boolean contieneSinMayusculasOMinusculas( String cadena )
+    {
+        return !getVariantes(cadena).isEmpty();
+    }
+
+    /**
+     * Elimina la primera cadena del conjunto. Si el conjunto está vacío no hace nada.
+     * 
+     * La cadena se busca y se elimina en una sola operación (pollFirst), así que en modo concurrente dos hilos nunca eliminan la misma cadena.
      */
     public void eliminarPrimera( )
     {
-    	arbolCadenas.removeFirst();
+    	asegurarModificable();
+    	String primera = arbolCadenas.pollFirst();
+    	if (primera != null) {
+    		retirarDeIndices(primera);
+    	}
     }
 
     /**
@@ -173,13 +415,8 @@ public class SandboxConjuntos
      * @param valores Una lista de objetos
      */
     public void reiniciarConjuntoCadenas(List<Object> objetos) {
-        arbolCadenas.clear(); // Limpiar el conjunto existente
-
-        // Recorrer la lista de objetos
-        for (Object objeto : objetos) {
-            // Convertir cada objeto a cadena usando su método toString y agregarlo al conjunto de cadenas
-            arbolCadenas.add(objeto.toString());
-        }
+        // Convertir los objetos en paralelo y construir el árbol a partir de las cadenas ordenadas
+        reemplazarCon(CargaMasiva.convertirCadenas(objetos));
     }
 
 
@@ -189,15 +426,8 @@ public class SandboxConjuntos
      * Note que esta operación podría modificar el órden de los elementos dentro del conjunto.
      */
     public void volverMayusculas() {
-
-        NavigableSet<String> conjuntoTemporal = new TreeSet<>();
-
-  
-        for (String cadena : arbolCadenas) {
-            conjuntoTemporal.add(cadena.toUpperCase());
-        }
-        arbolCadenas.clear();
-        arbolCadenas.addAll(conjuntoTemporal);
+        // Transformar en un arreglo, ordenarlo una vez y construir el árbol nuevo a partir de los datos ordenados
+        reemplazarCon(CargaMasiva.transformarCadenas(arbolCadenas, String::toUpperCase));
     }
 
 
@@ -215,13 +445,368 @@ public class SandboxConjuntos
 
     /**
      * Verifica si todos los elementos en el arreglo de cadenas del parámetro hacen parte del conjunto de cadenas
+     * 
+     * Primero se revisa cada cadena en un filtro de Bloom, así que si alguna no está en el conjunto casi siempre se detecta en O(1) por cadena. Si todas pasan el filtro,
+     * se ordena una copia del arreglo y se recorre el conjunto una sola vez a partir de la menor cadena, en lugar de buscar cada cadena por separado. Cuando el arreglo es
+     * muy pequeño comparado con el conjunto se hace una búsqueda por cadena, que en ese caso es más barata que el recorrido.
      * @param otroArreglo El arreglo de enteros con el que se debe comparar
      * @return True si todos los elementos del arreglo están dentro del conjunto
      */
     public boolean compararElementos(String[] otroArreglo) {
-        boolean ans = arbolCadenas.containsAll(Arrays.asList(otroArreglo));
-        return ans;
+        if (otroArreglo.length == 0) {
+            return true;
+        }
+        if (!esConcurrente()) {
+            FiltroBloom filtro = getFiltroCadenas();
+            for (String cadena : otroArreglo) {
+                if (!filtro.puedeContener(cadena)) {
+                    return false;
+                }
+            }
+            int tamanio = arbolCadenas.size();
+            if ((long) otroArreglo.length * (32 - Integer.numberOfLeadingZeros(tamanio)) < tamanio / 4) {
+                return arbolCadenas.containsAll(Arrays.asList(otroArreglo));
+            }
+        }
+
+        // El arreglo se ordena con el mismo orden del conjunto (el lexicográfico o el de colación)
+        Comparator<? super String> orden = arbolCadenas.comparator() != null ? arbolCadenas.comparator() : Comparator.naturalOrder();
+        String[] ordenadas = otroArreglo.clone();
+        Arrays.sort(ordenadas, orden);
+
+        // Recorrido simultáneo: las dos secuencias están ordenadas, así que el conjunto sólo avanza
+        Iterator<String> elementos = arbolCadenas.tailSet(ordenadas[0], true).iterator();
+        String actual = elementos.hasNext() ? elementos.next() : null;
+        for (String cadena : ordenadas) {
+            while (actual != null && orden.compare(actual, cadena) < 0) {
+                actual = elementos.hasNext() ? elementos.next() : null;
+            }
+            if (actual == null || !actual.equals(cadena)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Guarda las cadenas del conjunto en un archivo, como una tabla ordenada de cadenas: un índice de bloques seguido de bloques comprimidos por prefijos.
+     * 
+     * El archivo siempre está en orden lexicográfico, así que un conjunto en modo de colación se abre de nuevo en el orden lexicográfico.
+     * @param ruta La ruta del archivo. Si existe, se reemplaza.
+     * @throws IOException Si no se pudo escribir el archivo
+     */
+    public void guardar( Path ruta ) throws IOException
+    {
+        ArchivoCadenas.escribir(ruta, getCopiaCompacta());
+    }
+
+    /**
+     * Abre un conjunto guardado con guardar, mapeando el archivo en memoria.
+     * 
+     * Abrir el archivo no lee las cadenas, así que es casi instantáneo sin importar su tamaño. getPrimera, getUltima, getSiguientes, las búsquedas y los recorridos
+     * trabajan directamente sobre el archivo. La primera modificación copia las cadenas a un TreeSet; el archivo nunca se modifica.
+     * @param ruta La ruta del archivo
+     * @return Un conjunto con las cadenas del archivo
+     * @throws IOException Si no se pudo leer el archivo o no tiene el formato esperado
+     */
+    public static SandboxConjuntos abrir( Path ruta ) throws IOException
+    {
+        SandboxConjuntos sandbox = new SandboxConjuntos();
+        sandbox.arbolCadenas = new VistaConjuntoCompacto(ArchivoCadenas.abrir(ruta));
+        return sandbox;
     }
 
+    /**
+     * Construye un conjunto nuevo con las cadenas que están en este conjunto o en el otro.
+     * 
+     * Las operaciones entre conjuntos recorren las cadenas de los dos conjuntos en orden una sola vez, en paralelo por rangos de cadenas cuando los conjuntos son grandes,
+     * y construyen el árbol del resultado directamente a partir de las cadenas ordenadas. El resultado está en el mismo modo (concurrente, de colación o ninguno de los
+     * dos) que este conjunto; si el otro conjunto tiene otro orden, sus cadenas se reordenan primero.
+     * @param otro El otro conjunto. No se modifica.
+     * @return Un conjunto con la unión de los dos conjuntos
+     */
+    public SandboxConjuntos unir( SandboxConjuntos otro )
+    {
+        return operar(otro, AlgebraConjuntos::unir);
+    }
+
+    /**
+     * Construye un conjunto nuevo con las cadenas que están tanto en este conjunto como en el otro
+     * @param otro El otro conjunto. No se modifica.
+     * @return Un conjunto con la intersección de los dos conjuntos
+     */
+    public SandboxConjuntos intersectar( SandboxConjuntos otro )
+    {
+        return operar(otro, AlgebraConjuntos::intersectar);
+    }
+
+    /**
+     * Construye un conjunto nuevo con las cadenas de este conjunto que no están en el otro
+     * @param otro El otro conjunto. No se modifica.
+     * @return Un conjunto con la diferencia entre este conjunto y el otro
+     */
+    public SandboxConjuntos restar( SandboxConjuntos otro )
+    {
+        return operar(otro, AlgebraConjuntos::restar);
+    }
+
+    /**
+     * Construye un conjunto nuevo con las cadenas que están en sólo uno de los dos conjuntos
+     * @param otro El otro conjunto. No se modifica.
+     * @return Un conjunto con la diferencia simétrica de los dos conjuntos
+     */
+    public SandboxConjuntos diferenciaSimetrica( SandboxConjuntos otro )
+    {
+        return operar(otro, AlgebraConjuntos::diferenciaSimetrica);
+    }
+
+    /**
+     * Una operación de AlgebraConjuntos sobre dos arreglos ordenados con un comparador
+     */
+    private interface OperacionConjuntos
+    {
+        String[] aplicar( String[] primero, String[] segundo, Comparator<? super String> comparador );
+    }
+
+    /**
+     * Aplica una operación entre las cadenas de este conjunto y las del otro, en el orden de este conjunto
+     * @param otro El otro conjunto. No se modifica.
+     * @param operacion La operación que se aplica
+     * @return Un conjunto en el mismo modo que este con el resultado de la operación
+     */
+    private SandboxConjuntos operar( SandboxConjuntos otro, OperacionConjuntos operacion )
+    {
+        ComparadorColacion colacion = getColacion();
+        String[] propias = getArregloOrdenado();
+        String[] otras = otro.getArregloOrdenado();
+        if (colacion == null) {
+            if (otro.getColacion() != null) {
+                Arrays.sort(otras);
+            }
+            return crearConOrdenadas(operacion.aplicar(propias, otras, null), null);
+        }
+        // El comparador del resultado conoce las llaves de los dos conjuntos, así que la operación no calcula ninguna llave
+        ComparadorColacion orden = new ComparadorColacion(colacion.getLocalidad());
+        orden.registrarTodas(propias);
+        orden.registrarTodas(otras);
+        if (!colacion.mismoOrden(otro.arbolCadenas.comparator())) {
+            Arrays.sort(otras, orden);
+        }
+        return crearConOrdenadas(operacion.aplicar(propias, otras, orden), orden);
+    }
+
+    /**
+     * Retorna un arreglo con las cadenas del conjunto, en orden
+     * @return Las cadenas del conjunto ordenadas
+     */
+    private String[] getArregloOrdenado( )
+    {
+        return arbolCadenas.toArray(new String[0]);
+    }
+
+    /**
+     * Crea un conjunto en el mismo modo que este, con las cadenas del arreglo
+     * @param ordenadas Las cadenas del nuevo conjunto, ordenadas y sin repetidos
+     * @param colacion El comparador del nuevo conjunto en modo de colación, o null si usa el orden lexicográfico
+     * @return El nuevo conjunto
+     */
+    private SandboxConjuntos crearConOrdenadas( String[] ordenadas, ComparadorColacion colacion )
+    {
+        SandboxConjuntos resultado = new SandboxConjuntos(esConcurrente());
+        if (colacion != null) {
+            colacion.reiniciar(ordenadas);
+        }
+        resultado.reemplazarArbol(ordenadas, ordenadas.length, colacion);
+        return resultado;
+    }
+
+    /**
+     * Actualiza los índices que ya fueron construidos después de agregar una cadena nueva a arbolCadenas
+     * @param cadena La cadena que se agregó
+     */
+    private void registrarEnIndices( String cadena )
+    {
+        ComparadorColacion colacion = getColacion();
+        if (colacion != null) {
+            colacion.registrar(cadena);
+        }
+        if (indicePrefijos != null) {
+            indicePrefijos.agregar(cadena);
+        }
+        if (indiceSinMayusculas != null) {
+            indiceSinMayusculas.agregar(cadena);
+        }
+        if (filtroCadenas != null) {
+            filtroCadenas.agregar(cadena);
+        }
+        if (indiceOrden != null) {
+            indiceOrden.agregar(cadena);
+        }
+    }
+
+    /**
+     * Actualiza los índices que ya fueron construidos después de eliminar una cadena de arbolCadenas
+     * @param cadena La cadena que se eliminó
+     */
+    private void retirarDeIndices( String cadena )
+    {
+        ComparadorColacion colacion = getColacion();
+        if (colacion != null) {
+            colacion.olvidar(cadena);
+        }
+        if (indicePrefijos != null) {
+            indicePrefijos.eliminar(cadena);
+        }
+        if (indiceSinMayusculas != null) {
+            indiceSinMayusculas.eliminar(cadena);
+        }
+        if (filtroCadenas != null) {
+            filtroCadenas.registrarEliminacion();
+        }
+        if (indiceOrden != null) {
+            indiceOrden.eliminar(cadena);
+        }
+    }
+
+    /**
+     * Descarta los índices después de reemplazar todo el contenido de arbolCadenas. Se vuelven a construir cuando se necesiten.
+     */
+    private void descartarIndices( )
+    {
+        indicePrefijos = null;
+        indiceSinMayusculas = null;
+        filtroCadenas = null;
+        indiceOrden = null;
+    }
+
+    /**
+     * Si arbolCadenas es de sólo lectura (un archivo mapeado en memoria), lo reemplaza por un TreeSet con las mismas cadenas antes de modificarlo. La copia cuesta O(n)
+     * porque las cadenas ya están ordenadas. Los índices no cambian, porque las cadenas son las mismas.
+     */
+    private void asegurarModificable( )
+    {
+        if (arbolCadenas instanceof VistaConjuntoCompacto) {
+            arbolCadenas = new TreeSet<>(arbolCadenas);
+        }
+    }
+
+    /**
+     * Indica si el conjunto está en modo concurrente
+     * @return True si arbolCadenas es un ConcurrentSkipListSet
+     */
+    private boolean esConcurrente( )
+    {
+        return arbolCadenas instanceof ConcurrentSkipListSet;
+    }
+
+    /**
+     * Retorna el comparador de colación del conjunto
+     * @return El comparador de arbolCadenas si el conjunto está en modo de colación, o null si no
+     */
+    private ComparadorColacion getColacion( )
+    {
+        Comparator<? super String> comparador = arbolCadenas.comparator();
+        return comparador instanceof ComparadorColacion ? (ComparadorColacion) comparador : null;
+    }
+
+    /**
+     * Reemplaza arbolCadenas por un árbol con las cadenas del arreglo, en el orden y el modo actuales del conjunto. En modo de colación primero se calculan las llaves de
+     * las cadenas nuevas, para que ordenarlas no tenga que calcularlas en cada comparación.
+     * @param cadenas Las nuevas cadenas, en cualquier orden y posiblemente repetidas. El arreglo se modifica.
+     */
+    private void reemplazarCon( String[] cadenas )
+    {
+        ComparadorColacion colacion = getColacion();
+        if (colacion != null) {
+            colacion.reiniciar(cadenas);
+        }
+        reemplazarArbol(cadenas, CargaMasiva.ordenarSinRepetidas(cadenas, colacion), colacion);
+    }
+
+    /**
+     * Reemplaza arbolCadenas por un conjunto nuevo con las primeras cadenas de un arreglo ordenado, conservando el modo del conjunto, y descarta los índices.
+     * 
+     * Fuera del modo concurrente el árbol se construye en O(n) a partir de los datos ordenados. En modo concurrente las cadenas se insertan directamente en una lista de
+     * saltos nueva, en O(n log n), sin construir antes un árbol.
+     * @param ordenadas Las cadenas, ordenadas en el orden del conjunto y sin repetidas
+     * @param cantidad La cantidad de cadenas del arreglo que se usan, desde la posición 0
+     * @param colacion El comparador del conjunto en modo de colación, o null si usa el orden lexicográfico
+     */
+    private void reemplazarArbol( String[] ordenadas, int cantidad, ComparadorColacion colacion )
+    {
+        if (esConcurrente()) {
+            arbolCadenas = CargaMasiva.construirListaSaltos(ordenadas, cantidad);
+        } else {
+            arbolCadenas = CargaMasiva.construirArbolOrdenado(ordenadas, cantidad, colacion);
+        }
+        descartarIndices();
+    }
+
+    /**
+     * Retorna las cadenas del conjunto que son iguales a la cadena sin tener en cuenta mayúsculas y minúsculas. En modo concurrente recorre el conjunto en lugar de usar el índice.
+     * @param cadena La cadena buscada
+     * @return Las variantes de la cadena que están en el conjunto
+     */
+    private List<String> getVariantes( String cadena )
+    {
+        if (!esConcurrente()) {
+            return getIndiceSinMayusculas().getVariantes(cadena);
+        }
+        List<String> variantes = new ArrayList<>();
+        for (String elemento : arbolCadenas) {
+            if (elemento.equalsIgnoreCase(cadena)) {
+                variantes.add(elemento);
+            }
+        }
+        return variantes;
+    }
+
+    /**
+     * Retorna el trie de las consultas por prefijo, construyéndolo si todavía no existe
+     * @return El trie con las cadenas de arbolCadenas
+     */
+    private TrieCadenas getIndicePrefijos( )
+    {
+        if (indicePrefijos == null) {
+            indicePrefijos = new TrieCadenas(arbolCadenas);
+        }
+        return indicePrefijos;
+    }
+
+    /**
+     * Retorna el índice sin mayúsculas ni minúsculas, construyéndolo si todavía no existe
+     * @return El índice de las cadenas de arbolCadenas
+     */
+    private IndiceSinMayusculas getIndiceSinMayusculas( )
+    {
+        if (indiceSinMayusculas == null) {
+            indiceSinMayusculas = new IndiceSinMayusculas(arbolCadenas);
+        }
+        return indiceSinMayusculas;
+    }
+
+    /**
+     * Retorna el árbol de estadísticos de orden, construyéndolo si todavía no existe
+     * @return El árbol con las cadenas de arbolCadenas
+     */
+    private ArbolEstadisticoCadenas getIndiceOrden( )
+    {
+        if (indiceOrden == null) {
+            indiceOrden = new ArbolEstadisticoCadenas(arbolCadenas, arbolCadenas.comparator());
+        }
+        return indiceOrden;
+    }
+
+    /**
+     * Retorna el filtro de Bloom de las cadenas, construyéndolo si todavía no existe o si ya está desactualizado
+     * @return El filtro de las cadenas de arbolCadenas
+     */
+    private FiltroBloom getFiltroCadenas( )
+    {
+        if (filtroCadenas == null || filtroCadenas.estaDesactualizado()) {
+            filtroCadenas = new FiltroBloom(arbolCadenas);
+        }
+        return filtroCadenas;
+    }
 
 }
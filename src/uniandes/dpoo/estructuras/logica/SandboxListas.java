@@ -6,6 +6,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 /**
  * Esta clase tiene un conjunto de métodos para practicar operaciones sobre listas de enteros y de cadenas.
@@ -39,6 +40,34 @@ public class SandboxListas
         listaCadenas = new LinkedList<String>( );
     }
 
+    /**
+     * Crea una nueva instancia de la clase usando la lista recibida como implementación de la lista de enteros.
+     *
+     * Por ejemplo, con una ListaArbol las inserciones y eliminaciones en cualquier posición cuestan O(log n), lo que conviene cuando hay muchas ediciones en posiciones
+     * aleatorias, y con una ListaCircular insertar al inicio y eliminar la posición 0 cuestan O(1). Los métodos que reinician la lista de enteros conservan la implementación
+     * recibida. Con una ListaEnterosRangos las consultas getMinimoEnRango, getMaximoEnRango y getSumaEnRango cuestan O(log n).
+     *
+     * @param listaEnteros La lista que se usará para los enteros. Debe estar vacía.
+     */
+    public SandboxListas( List<Integer> listaEnteros )
+    {
+        this( listaEnteros, new LinkedList<String>( ) );
+    }
+
+    /**
+     * Crea una nueva instancia de la clase usando las listas recibidas como implementación de la lista de enteros y de la lista de cadenas.
+     *
+     * Por ejemplo, con ListaVersionada se pueden obtener versiones inmutables de las listas en O(1) con getVersionEnteros y getVersionCadenas.
+     *
+     * @param listaEnteros La lista que se usará para los enteros. Debe estar vacía.
+     * @param listaCadenas La lista que se usará para las cadenas. Debe estar vacía.
+     */
+    public SandboxListas( List<Integer> listaEnteros, List<String> listaCadenas )
+    {
+        this.listaEnteros = listaEnteros;
+        this.listaCadenas = listaCadenas;
+    }
+
     /**
      * Retorna una copia de la lista de enteros, es decir una nueva lista del mismo tamaño que contiene copias de los valores de la lista original
      * @return Una copia de la lista de enteros
@@ -64,6 +93,34 @@ public class SandboxListas
         return copia;
     }
 
+    /**
+     * Retorna una versión inmutable de la lista de enteros, que no cambia aunque la lista se modifique después.
+     *
+     * Si la lista de enteros es una ListaVersionada la versión se obtiene en O(1) sin copiar los valores; de lo contrario se retorna una copia.
+     * @return Una versión inmutable de la lista de enteros
+     */
+    public List<Integer> getVersionEnteros( )
+    {
+        if (listaEnteros instanceof ListaVersionada) {
+            return ((ListaVersionada<Integer>) listaEnteros).getVersion();
+        }
+        return Collections.unmodifiableList(getCopiaEnteros());
+    }
+
+    /**
+     * Retorna una versión inmutable de la lista de cadenas, que no cambia aunque la lista se modifique después.
+     *
+     * Si la lista de cadenas es una ListaVersionada la versión se obtiene en O(1) sin copiar los valores; de lo contrario se retorna una copia.
+     * @return Una versión inmutable de la lista de cadenas
+     */
+    public List<String> getVersionCadenas( )
+    {
+        if (listaCadenas instanceof ListaVersionada) {
+            return ((ListaVersionada<String>) listaCadenas).getVersion();
+        }
+        return Collections.unmodifiableList(getCopiaCadenas());
+    }
+
     /**
      * Retorna un arreglo con los valores de la lista de enteros, es decir un arreglo del mismo tamaño que contiene copias de los valores de la lista
      * @return Una arreglo de enteros
@@ -108,6 +165,24 @@ public class SandboxListas
     	listaEnteros.add(entero);
     }
 
+    /**
+     * Agrega al final de la lista de enteros los valores publicados en un registro a partir de una posición.
+     *
+     * Los hilos productores pueden agregar valores al registro mientras tanto: sólo se agregan los valores que ya estaban publicados cuando se llamó al método.
+     *
+     * @param registro El registro del que se toman los valores
+     * @param desde La primera posición del registro que se agrega
+     * @return La posición del registro hasta la que se agregaron valores. Sirve como 'desde' en el siguiente llamado.
+     */
+    public long agregarEnteros( RegistroEnteros registro, long desde )
+    {
+    	int[] nuevos = registro.getPublicadosDesde(desde);
+    	for (int entero : nuevos) {
+    		listaEnteros.add(entero);
+    	}
+    	return desde + nuevos.length;
+    }
+
     /**
      * Agrega un nuevo valor al final de la lista de cadenas. Es decir que este método siempre debería aumentar en 1 la capacidad de la lista.
      * 
@@ -188,7 +263,7 @@ public class SandboxListas
     		nueva.add(nuevoValor);
     		
     	}
-    	listaEnteros = nueva;
+    	reemplazarEnteros(nueva);
     }
 
     /**
@@ -199,13 +274,8 @@ public class SandboxListas
      */
     public void reiniciarArregloCadenas( List<Object> objetos )
     {
-    	List<String> nueva = new ArrayList<>(objetos.size());
-    	
-    	for (int i = 0 ; i < objetos.size(); i++ ) {
-    		String nuevaCadena = objetos.get(i).toString();
-    		nueva.add(nuevaCadena);
-    	}
-    	listaCadenas = nueva; 
+    	String[] cadenas = CargaMasiva.convertirCadenas(objetos);
+    	reemplazarCadenas(CargaMasiva.construirLista(cadenas));
     }
 
     /**
@@ -215,12 +285,82 @@ public class SandboxListas
      */
     public void volverPositivos( )
     {
-        for (int i = 0; i < listaEnteros.size(); i++) {
-            int entero = listaEnteros.get(i);
-            if (entero < 0) {
-                listaEnteros.set(i, -entero);
-            }
+        // replaceAll deja que cada implementación de la lista haga el cambio completo de una vez
+        listaEnteros.replaceAll(entero -> entero < 0 ? -entero : entero);
+    }
+
+    /**
+     * Retorna el menor valor de la lista de enteros entre las posiciones 'desde' (incluida) y 'hasta' (excluida).
+     *
+     * Si la lista de enteros es una ListaEnterosRangos la consulta cuesta O(log n); de lo contrario se recorre el rango sin copiarlo.
+     * @param desde La primera posición del rango
+     * @param hasta La posición siguiente a la última del rango
+     * @return El menor valor del rango
+     * @throws IllegalArgumentException Si el rango está vacío
+     */
+    public int getMinimoEnRango( int desde, int hasta )
+    {
+        if (listaEnteros instanceof ListaEnterosRangos) {
+            return ((ListaEnterosRangos) listaEnteros).minimo(desde, hasta);
+        }
+        int minimo = Integer.MAX_VALUE;
+        for (int entero : rangoNoVacio(desde, hasta)) {
+            minimo = Math.min(minimo, entero);
+        }
+        return minimo;
+    }
+
+    /**
+     * Retorna el mayor valor de la lista de enteros entre las posiciones 'desde' (incluida) y 'hasta' (excluida).
+     *
+     * Si la lista de enteros es una ListaEnterosRangos la consulta cuesta O(log n); de lo contrario se recorre el rango sin copiarlo.
+     * @param desde La primera posición del rango
+     * @param hasta La posición siguiente a la última del rango
+     * @return El mayor valor del rango
+     * @throws IllegalArgumentException Si el rango está vacío
+     */
+    public int getMaximoEnRango( int desde, int hasta )
+    {
+        if (listaEnteros instanceof ListaEnterosRangos) {
+            return ((ListaEnterosRangos) listaEnteros).maximo(desde, hasta);
+        }
+        int maximo = Integer.MIN_VALUE;
+        for (int entero : rangoNoVacio(desde, hasta)) {
+            maximo = Math.max(maximo, entero);
+        }
+        return maximo;
+    }
+
+    /**
+     * Retorna la suma de los valores de la lista de enteros entre las posiciones 'desde' (incluida) y 'hasta' (excluida).
+     *
+     * Si la lista de enteros es una ListaEnterosRangos la consulta cuesta O(log n); de lo contrario se recorre el rango sin copiarlo.
+     * @param desde La primera posición del rango
+     * @param hasta La posición siguiente a la última del rango
+     * @return La suma de los valores del rango, o 0 si el rango está vacío
+     */
+    public long getSumaEnRango( int desde, int hasta )
+    {
+        if (listaEnteros instanceof ListaEnterosRangos) {
+            return ((ListaEnterosRangos) listaEnteros).suma(desde, hasta);
+        }
+        long suma = 0;
+        for (int entero : listaEnteros.subList(desde, hasta)) {
+            suma += entero;
+        }
+        return suma;
+    }
+
+    /**
+     * Retorna una vista del rango de la lista de enteros, verificando que no esté vacío
+     */
+    private List<Integer> rangoNoVacio( int desde, int hasta )
+    {
+        List<Integer> rango = listaEnteros.subList(desde, hasta);
+        if (rango.isEmpty()) {
+            throw new IllegalArgumentException("El rango está vacío");
         }
+        return rango;
     }
 
 
@@ -341,7 +481,64 @@ public class SandboxListas
             int numeroAleatorio = (int) (Math.random() * (maximo - minimo + 1)) + minimo;
             nuevo.add(i, numeroAleatorio);
         }
-        listaEnteros = nuevo;
+        reemplazarEnteros(nuevo);
+    }
+
+    /**
+     * Cambia los elementos de la lista de enteros por los primeros valores de un flujo, por ejemplo uno creado con GeneradorEnteros.flujo.
+     *
+     * Como el flujo es perezoso, sólo se generan los valores que se guardan en la lista, aunque el flujo sea mucho más largo.
+     * @param flujo El flujo del que se toman los valores
+     * @param limite La cantidad máxima de valores que se guardan en la lista
+     * @return La cantidad de valores que quedaron en la lista
+     */
+    public int reiniciarConFlujo( IntStream flujo, int limite )
+    {
+        List<Integer> nuevo = new ArrayList<>();
+        flujo.limit(limite).forEachOrdered(nuevo::add);
+        reemplazarEnteros(nuevo);
+        return nuevo.size();
+    }
+
+    /**
+     * Reemplaza los valores de la lista de enteros por los de la lista recibida.
+     *
+     * Si la lista de enteros usa la implementación por defecto simplemente se cambia por la nueva lista; si es otra implementación (la que se recibió en el constructor) se
+     * conserva y sólo se cambia su contenido.
+     * @param nuevos Los nuevos valores de la lista de enteros
+     */
+    private void reemplazarEnteros( List<Integer> nuevos )
+    {
+        if (esImplementacionPorDefecto(listaEnteros)) {
+            listaEnteros = nuevos;
+        } else {
+            listaEnteros.clear();
+            listaEnteros.addAll(nuevos);
+        }
+    }
+
+    /**
+     * Reemplaza los valores de la lista de cadenas por los de la lista recibida, conservando la implementación recibida en el constructor.
+     * @param nuevas Los nuevos valores de la lista de cadenas
+     */
+    private void reemplazarCadenas( List<String> nuevas )
+    {
+        if (esImplementacionPorDefecto(listaCadenas)) {
+            listaCadenas = nuevas;
+        } else {
+            listaCadenas.clear();
+            listaCadenas.addAll(nuevas);
+        }
+    }
+
+    /**
+     * Indica si una lista es de una de las implementaciones que usa la clase cuando no se recibe otra en el constructor
+     * @param lista La lista que se revisa
+     * @return True si la lista es un ArrayList o una LinkedList
+     */
+    private static boolean esImplementacionPorDefecto( List<?> lista )
+    {
+        return lista instanceof ArrayList || lista instanceof LinkedList;
     }
 
 }
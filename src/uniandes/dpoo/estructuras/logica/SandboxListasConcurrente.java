@@ -0,0 +1,290 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * Esta clase es una variante de SandboxListas que puede compartirse entre varios hilos.
+ *
+ * Todas las operaciones se delegan a una instancia de SandboxListas protegida por un StampedLock. Las modificaciones toman el cerrojo de escritura, de forma exclusiva.
+ *
+ * Las consultas frecuentes (contarApariciones, getCopiaEnteros y compararArregloEnteros) se ejecutan primero con una lectura optimista, que no bloquea a nadie: si al
+ * terminar el sello sigue siendo válido se usa el resultado y, si hubo una escritura en el medio, se repite la consulta con el cerrojo de lectura.
+ */
+public class SandboxListasConcurrente
+{
+    /**
+     * El sandbox al que se delegan todas las operaciones. Sólo se accede a él a través del cerrojo.
+     */
+    private final SandboxListas sandbox;
+
+    /**
+     * El cerrojo que protege al sandbox
+     */
+    private final StampedLock cerrojo;
+
+    /**
+     * Crea una nueva instancia de la clase con las dos listas inicializadas pero vacías
+     */
+    public SandboxListasConcurrente( )
+    {
+        sandbox = new SandboxListas( );
+        cerrojo = new StampedLock( );
+    }
+
+    /**
+     * Retorna una copia de la lista de enteros, usando una lectura optimista
+     * @return Una copia de la lista de enteros
+     */
+    public List<Integer> getCopiaEnteros( )
+    {
+        return leerOptimista( sandbox::getCopiaEnteros );
+    }
+
+    /**
+     * Retorna una copia de la lista de cadenas
+     * @return Una copia de la lista de cadenas
+     */
+    public List<String> getCopiaCadenas( )
+    {
+        return leer( sandbox::getCopiaCadenas );
+    }
+
+    /**
+     * Retorna un arreglo con los valores de la lista de enteros
+     * @return Una arreglo de enteros
+     */
+    public int[] getEnterosComoArreglo( )
+    {
+        return leer( sandbox::getEnterosComoArreglo );
+    }
+
+    /**
+     * Retorna la cantidad de valores en la lista de enteros
+     * @return
+     */
+    public int getCantidadEnteros( )
+    {
+        return leer( sandbox::getCantidadEnteros );
+    }
+
+    /**
+     * Retorna la cantidad de valores en la lista de cadenas
+     * @return
+     */
+    public int getCantidadCadenas( )
+    {
+        return leer( sandbox::getCantidadCadenas );
+    }
+
+    /**
+     * Agrega un nuevo valor al final de la lista de enteros.
+     * @param entero El valor que se va a agregar.
+     */
+    public void agregarEntero( int entero )
+    {
+        escribir( ( ) -> sandbox.agregarEntero( entero ) );
+    }
+
+    /**
+     * Agrega un nuevo valor al final de la lista de cadenas.
+     * @param cadena La cadena que se va a agregar.
+     */
+    public void agregarCadena( String cadena )
+    {
+        escribir( ( ) -> sandbox.agregarCadena( cadena ) );
+    }
+
+    /**
+     * Elimina todas las apariciones de un determinado valor dentro de la lista de enteros
+     * @param valor El valor que se va eliminar
+     */
+    public void eliminarEntero( int valor )
+    {
+        escribir( ( ) -> sandbox.eliminarEntero( valor ) );
+    }
+
+    /**
+     * Elimina todas las apariciones de un determinado valor dentro de la lista de cadenas
+     * @param cadena La cadena que se va eliminar
+     */
+    public void eliminarCadena( String cadena )
+    {
+        escribir( ( ) -> sandbox.eliminarCadena( cadena ) );
+    }
+
+    /**
+     * Inserta un nuevo entero en la lista de enteros
+     * @param entero El nuevo valor que debe agregarse
+     * @param posicion La posición donde debe quedar el nuevo valor en la lista aumentada
+     */
+    public void insertarEntero( int entero, int posicion )
+    {
+        escribir( ( ) -> sandbox.insertarEntero( entero, posicion ) );
+    }
+
+    /**
+     * Elimina un valor de la lista de enteros dada su posición.
+     * @param posicion La posición donde está el elemento que debe ser eliminado
+     */
+    public void eliminarEnteroPorPosicion( int posicion )
+    {
+        escribir( ( ) -> sandbox.eliminarEnteroPorPosicion( posicion ) );
+    }
+
+    /**
+     * Reinicia la lista de enteros con los valores contenidos en el parámetro 'valores', pero truncados.
+     * @param valores Un arreglo de valores decimales.
+     */
+    public void reiniciarArregloEnteros( double[] valores )
+    {
+        escribir( ( ) -> sandbox.reiniciarArregloEnteros( valores ) );
+    }
+
+    /**
+     * Reinicia la lista de cadenas con las representaciones como Strings de los objetos contenidos en la lista del parámetro 'objetos'.
+     * @param objetos Una lista de objetos
+     */
+    public void reiniciarArregloCadenas( List<Object> objetos )
+    {
+        escribir( ( ) -> sandbox.reiniciarArregloCadenas( objetos ) );
+    }
+
+    /**
+     * Modifica la lista de enteros para que todos los valores sean positivos.
+     */
+    public void volverPositivos( )
+    {
+        escribir( sandbox::volverPositivos );
+    }
+
+    /**
+     * Modifica la lista de enteros para que todos los valores queden organizados de MAYOR a MENOR.
+     */
+    public void organizarEnteros( )
+    {
+        escribir( sandbox::organizarEnteros );
+    }
+
+    /**
+     * Modifica la lista de cadenas para que todos los valores queden organizados lexicográficamente.
+     */
+    public void organizarCadenas( )
+    {
+        escribir( sandbox::organizarCadenas );
+    }
+
+    /**
+     * Cuenta cuántas veces aparece el valor recibido por parámetro en la lista de enteros, usando una lectura optimista
+     * @param valor El valor buscado
+     * @return La cantidad de veces que aparece el valor
+     */
+    public int contarApariciones( int valor )
+    {
+        return leerOptimista( ( ) -> sandbox.contarApariciones( valor ) );
+    }
+
+    /**
+     * Cuenta cuántas veces aparece la cadena recibida por parámetro en la lista de cadenas, sin diferenciar mayúsculas y minúsculas.
+     * @param cadena La cadena buscada
+     * @return La cantidad de veces que aparece la cadena
+     */
+    public int contarApariciones( String cadena )
+    {
+        return leer( ( ) -> sandbox.contarApariciones( cadena ) );
+    }
+
+    /**
+     * Cuenta cuántos valores dentro de la lista de enteros están repetidos.
+     * @return La cantidad de enteos diferentes que aparecen más de una vez
+     */
+    public int contarEnterosRepetidos( )
+    {
+        return leer( sandbox::contarEnterosRepetidos );
+    }
+
+    /**
+     * Compara la lista de enteros con un arreglo de enteros, usando una lectura optimista
+     * @param otroArreglo El arreglo de enteros con el que se debe comparar
+     * @return True si los elementos son los mismos y en el mismo orden y false de lo contrario
+     */
+    public boolean compararArregloEnteros( int[] otroArreglo )
+    {
+        return leerOptimista( ( ) -> sandbox.compararArregloEnteros( otroArreglo ) );
+    }
+
+    /**
+     * Cambia los elementos de la lista de enteros por una nueva serie de valores generada de forma aleatoria.
+     * @param cantidad La cantidad de elementos que debe haber en la lista
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     */
+    public void generarEnteros( int cantidad, int minimo, int maximo )
+    {
+        escribir( ( ) -> sandbox.generarEnteros( cantidad, minimo, maximo ) );
+    }
+
+    /**
+     * Ejecuta una consulta sin tomar el cerrojo. Si durante la consulta ocurrió una escritura, el resultado se descarta y la consulta se repite con el cerrojo de lectura.
+     *
+     * Mientras no se valide el sello, la consulta puede ver la lista en un estado intermedio e incluso fallar con una excepción: ambos casos se tratan igual.
+     * @param consulta La consulta que se debe ejecutar. No debe modificar el sandbox.
+     * @return El resultado de la consulta
+     */
+    private <T> T leerOptimista( Supplier<T> consulta )
+    {
+        long sello = cerrojo.tryOptimisticRead( );
+        if( sello != 0L )
+        {
+            try
+            {
+                T resultado = consulta.get( );
+                if( cerrojo.validate( sello ) )
+                {
+                    return resultado;
+                }
+            }
+            catch( RuntimeException e )
+            {
+                // Una escritura concurrente dejó la lista a medio modificar: se repite con el cerrojo de lectura
+            }
+        }
+        return leer( consulta );
+    }
+
+    /**
+     * Ejecuta una consulta con el cerrojo de lectura
+     * @param consulta La consulta que se debe ejecutar
+     * @return El resultado de la consulta
+     */
+    private <T> T leer( Supplier<T> consulta )
+    {
+        long sello = cerrojo.readLock( );
+        try
+        {
+            return consulta.get( );
+        }
+        finally
+        {
+            cerrojo.unlockRead( sello );
+        }
+    }
+
+    /**
+     * Ejecuta una modificación con el cerrojo de escritura
+     * @param modificacion La modificación que se debe ejecutar
+     */
+    private void escribir( Runnable modificacion )
+    {
+        long sello = cerrojo.writeLock( );
+        try
+        {
+            modificacion.run( );
+        }
+        finally
+        {
+            cerrojo.unlockWrite( sello );
+        }
+    }
+}
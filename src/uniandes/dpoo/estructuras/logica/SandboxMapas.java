@@ -4,10 +4,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 
 
@@ -21,7 +23,10 @@ import java.util.TreeSet;
  * 
  * El objetivo de usar el tipo Map es que sólo puedan usarse métodos de esa interfaz y no métodos adicionales provistos por la implementación concreta (HashMap).
  * 
- * No pueden agregarse nuevos atributos.
+ * Las llaves se guardan como LlaveInvertida: la llave de un valor agregado con agregarCadena es una vista invertida del mismo valor, así que no se copia la cadena.
+ * 
+ * No pueden agregarse nuevos atributos, salvo índices derivados de mapaCadenas que se mantienen sincronizados con él. Por eso todos los cambios a mapaCadenas pasan por
+ * los métodos poner y quitar, o reconstruyen los índices cuando se reemplaza todo el mapa.
  */
 public class SandboxMapas
 {
@@ -32,14 +37,30 @@ public class SandboxMapas
      * 
      * Las llaves corresponden a invertir la cadena que aparece asociada a cada llave.
      */
-    private Map<String, String> mapaCadenas;
+    private Map<LlaveInvertida, String> mapaCadenas;
+
+    /**
+     * Los valores de mapaCadenas ordenados lexicográficamente, cada uno con la cantidad de llaves que lo tienen como valor (un multiconjunto ordenado).
+     * 
+     * Se actualiza con cada cambio a mapaCadenas, así que el menor y el mayor valor se consultan en O(log n) sin ordenar los valores.
+     */
+    private TreeMap<String, Integer> valoresOrdenados;
+
+    /**
+     * El índice inverso de mapaCadenas: cada valor con el conjunto de llaves que lo tienen como valor. Se actualiza igual que valoresOrdenados.
+     * 
+     * Con este índice buscar o eliminar un valor cuesta O(1) en promedio, en lugar de recorrer todo el mapa.
+     */
+    private Map<String, Set<LlaveInvertida>> llavesPorValor;
 
     /**
      * Crea una nueva instancia de la clase con las dos listas inicializadas pero vacías
      */
     public SandboxMapas( )
     {
-        mapaCadenas = new HashMap<String, String>( );
+        mapaCadenas = new HashMap<LlaveInvertida, String>( );
+        valoresOrdenados = new TreeMap<String, Integer>( );
+        llavesPorValor = new HashMap<String, Set<LlaveInvertida>>( );
     }
 
     /**
@@ -47,9 +68,13 @@ public class SandboxMapas
      * @return Una lista ordenada con las cadenas que conforman los valores del mapa
      */
     public List<String> getValoresComoLista() {
-        Collection<String> collection = mapaCadenas.values();
-        List<String> listaValores = new ArrayList<>(collection);
-        Collections.sort(listaValores); // Sort the list lexicographically
+        // Los valores ya están ordenados en el multiconjunto: basta recorrerlo repitiendo cada valor según su cantidad
+        List<String> listaValores = new ArrayList<>(mapaCadenas.size());
+        for (Map.Entry<String, Integer> valor : valoresOrdenados.entrySet()) {
+            for (int i = 0; i < valor.getValue(); i++) {
+                listaValores.add(valor.getKey());
+            }
+        }
         return listaValores;
     }
 
@@ -59,10 +84,13 @@ public class SandboxMapas
      */
     public List<String> getLlavesComoListaInvertida( )
     {
-    	Set<String> set = mapaCadenas.keySet();
-    	List<String> listaValores = new ArrayList<>(set);
-    	Collections.sort(listaValores);
-    	Collections.reverse(listaValores);
+    	// Las llaves se ordenan sin convertirlas; sólo se crea un String por llave para el resultado
+    	List<LlaveInvertida> llaves = new ArrayList<>(mapaCadenas.keySet());
+    	Collections.sort(llaves, Collections.reverseOrder());
+    	List<String> listaValores = new ArrayList<>(llaves.size());
+    	for (LlaveInvertida llave : llaves) {
+    		listaValores.add(llave.toString());
+    	}
     	return listaValores;
     	
     }
@@ -74,12 +102,7 @@ public class SandboxMapas
      * @return
      */
     public String getPrimera() {
-        List<String> listaValores = getValoresComoLista();
-        if (!listaValores.isEmpty()) { 
-            return listaValores.get(0); 
-        } else {
-            return null; 
-        }
+        return valoresOrdenados.isEmpty() ? null : valoresOrdenados.firstKey();
     }
 
     /**
@@ -90,12 +113,7 @@ public class SandboxMapas
      */
     public String getUltima( )
     {
-        List<String> listaValores = getValoresComoLista();
-        if (!listaValores.isEmpty()) { 
-            return listaValores.get(listaValores.size() - 1 ); 
-        } else {
-            return null; 
-        }
+        return valoresOrdenados.isEmpty() ? null : valoresOrdenados.lastKey();
     }
 
     /**
@@ -118,22 +136,31 @@ public class SandboxMapas
 
     /**
      * Retorna la cantidad de *valores* diferentes en el mapa
+     * 
+     * El multiconjunto de valores guarda cada valor diferente una sola vez con su cantidad de apariciones, así que la respuesta es su tamaño, en O(1).
      * @return
      */
     public int getCantidadCadenasDiferentes( )
     {
-    	List<String> listaValores = getValoresComoLista();
-    	HashMap<String, Integer> histograma = new HashMap<String, Integer>();
-    	
-    	for(int i = 0; i<listaValores.size(); i++ ) {
-    		if (histograma.containsKey(listaValores.get(i))){
-    			histograma.put(listaValores.get(i), (histograma.get(listaValores.get(i)) + 1));
-    		}else {
-    			histograma.put(listaValores.get(i), 1);
-    		}
+    	return valoresOrdenados.size();
+    }
 
+    /**
+     * Construye un estimador HyperLogLog con los valores diferentes del mapa.
+     * 
+     * Sirve para estimar la cantidad de valores diferentes entre varios mapas muy grandes sin copiar sus valores: se construye un estimador por mapa y se unen con
+     * EstimadorCardinalidad.unir. Cada estimador ocupa 2^precision bytes sin importar el tamaño del mapa. Para un solo mapa, getCantidadCadenasDiferentes es exacto y más
+     * rápido.
+     * @param precision La precisión del estimador, entre EstimadorCardinalidad.PRECISION_MINIMA y EstimadorCardinalidad.PRECISION_MAXIMA
+     * @return Un estimador con los valores del mapa
+     */
+    public EstimadorCardinalidad getEstimadorValores( int precision )
+    {
+    	EstimadorCardinalidad estimador = new EstimadorCardinalidad(precision);
+    	for (String valor : valoresOrdenados.keySet()) {
+    		estimador.agregar(valor);
     	}
-    	return histograma.size();
+    	return estimador;
     }
 
     /**
@@ -145,9 +172,10 @@ public class SandboxMapas
      */
     public void agregarCadena(String cadena) {
        
-        String key = new StringBuilder(cadena).reverse().toString();
+        // La llave es una vista invertida del valor: no se crea la cadena invertida
+        LlaveInvertida key = LlaveInvertida.invertir(cadena);
         
-        mapaCadenas.put(key, cadena);
+        poner(key, cadena);
     }
 
     /**
@@ -156,7 +184,7 @@ public class SandboxMapas
      */
     public void eliminarCadenaConLLave( String llave )
     {
-    	mapaCadenas.remove(llave);
+    	quitar(LlaveInvertida.de(llave));
     }
 
     /**
@@ -164,12 +192,13 @@ public class SandboxMapas
      * @param cadena El valor que se debe eliminar
      */
     public void eliminarCadenaConValor(String valor) {
-       Iterator<Map.Entry<String, String>> iterator = mapaCadenas.entrySet().iterator();
-       while (iterator.hasNext()) {
-            Map.Entry<String, String> entry = iterator.next();
-            if (valor.equals(entry.getValue())) {
-                iterator.remove(); 
+        // El índice inverso dice directamente cuáles llaves tienen el valor
+        Set<LlaveInvertida> llaves = llavesPorValor.remove(valor);
+        if (llaves != null) {
+            for (LlaveInvertida llave : llaves) {
+                mapaCadenas.remove(llave);
             }
+            valoresOrdenados.remove(valor);
         }
     }
 
@@ -180,12 +209,10 @@ public class SandboxMapas
      * @param valores Una lista de objetos
      */
     public void reiniciarMapaCadenas(List<Object> objetos) {
-        mapaCadenas.clear(); // Clear the existing map
-
-        for (Object obj : objetos) {
-            String key = obj.toString(); 
-            mapaCadenas.put(key, key); 
-        }
+        // Convertir los objetos en paralelo y cargarlos en una tabla dimensionada desde el principio
+        String[] cadenas = CargaMasiva.convertirCadenas(objetos);
+        mapaCadenas = CargaMasiva.construirMapa(cadenas, LlaveInvertida::de);
+        reconstruirIndices();
     }
 
     /**
@@ -193,16 +220,17 @@ public class SandboxMapas
      */
     public void volverMayusculas( )
     {
-    	Iterator<Map.Entry<String, String>> iterator = mapaCadenas.entrySet().iterator();
-    	HashMap<String, String> mapanuevo = new HashMap<String, String>();
+    	Iterator<Map.Entry<LlaveInvertida, String>> iterator = mapaCadenas.entrySet().iterator();
+    	HashMap<LlaveInvertida, String> mapanuevo = new HashMap<LlaveInvertida, String>();
     	
     	while (iterator.hasNext()) {
-    		Map.Entry<String, String> entry = iterator.next();
-    		String newKey = entry.getKey().toUpperCase();
+    		Map.Entry<LlaveInvertida, String> entry = iterator.next();
+    		LlaveInvertida newKey = LlaveInvertida.de(entry.getKey().toString().toUpperCase());
     		mapanuevo.put(newKey, entry.getValue());
     	}
     	mapaCadenas = mapanuevo;
-
+    	// Dos llaves pueden quedar iguales en mayúsculas, y entonces uno de sus valores desaparece del mapa
+    	reconstruirIndices();
     }
 
     /**
@@ -212,12 +240,69 @@ public class SandboxMapas
      */
     public boolean compararValores(String[] otroArreglo) {
         for (String valor : otroArreglo) {
-            if (!mapaCadenas.containsValue(valor)) {
+            if (!llavesPorValor.containsKey(valor)) {
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * Asocia un valor a una llave en mapaCadenas y actualiza los índices
+     * @param llave La llave
+     * @param valor El nuevo valor de la llave
+     */
+    private void poner( LlaveInvertida llave, String valor )
+    {
+        String anterior = mapaCadenas.put(llave, valor);
+        if (anterior != null) {
+            retirarValor(llave, anterior);
+        }
+        registrarValor(llave, valor);
+    }
 
+    /**
+     * Elimina una llave de mapaCadenas y actualiza los índices
+     * @param llave La llave que se elimina
+     */
+    private void quitar( LlaveInvertida llave )
+    {
+        String anterior = mapaCadenas.remove(llave);
+        if (anterior != null) {
+            retirarValor(llave, anterior);
+        }
+    }
+
+    /**
+     * Registra en los índices que la llave tiene el valor
+     */
+    private void registrarValor( LlaveInvertida llave, String valor )
+    {
+        valoresOrdenados.merge(valor, 1, Integer::sum);
+        llavesPorValor.computeIfAbsent(valor, v -> new HashSet<LlaveInvertida>(2)).add(llave);
+    }
+
+    /**
+     * Registra en los índices que la llave dejó de tener el valor
+     */
+    private void retirarValor( LlaveInvertida llave, String valor )
+    {
+        valoresOrdenados.computeIfPresent(valor, (v, cantidad) -> cantidad > 1 ? cantidad - 1 : null);
+        Set<LlaveInvertida> llaves = llavesPorValor.get(valor);
+        if (llaves != null && llaves.remove(llave) && llaves.isEmpty()) {
+            llavesPorValor.remove(valor);
+        }
+    }
+
+    /**
+     * Vuelve a construir los índices después de reemplazar todo mapaCadenas
+     */
+    private void reconstruirIndices( )
+    {
+        valoresOrdenados = new TreeMap<String, Integer>();
+        llavesPorValor = new HashMap<String, Set<LlaveInvertida>>(CargaMasiva.capacidadPara(mapaCadenas.size()));
+        for (Map.Entry<LlaveInvertida, String> entrada : mapaCadenas.entrySet()) {
+            registrarValor(entrada.getKey(), entrada.getValue());
+        }
+    }
 }
@@ -0,0 +1,292 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Esta clase es una variante de SandboxMapas que puede compartirse entre varios hilos, con la misma relación entre llaves y valores: la llave de cada valor agregado es el
+ * valor invertido (una LlaveInvertida).
+ *
+ * El mapa es un ConcurrentHashMap, acompañado de un índice concurrente con la cantidad de llaves que tiene cada valor. Las consultas no usan cerrojos: leen una sola vez
+ * la referencia a la versión actual (el mapa y su índice) y trabajan sobre ella. getCantidadCadenasDiferentes y compararValores usan el índice, así que no recorren el
+ * mapa ni crean estructuras del tamaño del mapa; getPrimera, getUltima y eliminarCadenaConValor usan las operaciones masivas del mapa, que reparten el recorrido entre
+ * los hilos del pool de fork/join cuando el mapa es grande.
+ *
+ * Las operaciones que transforman todo el mapa (reiniciarMapaCadenas y volverMayusculas) construyen una versión nueva y la publican de una sola vez, así que cada consulta
+ * ve la versión anterior completa o la nueva completa, nunca una mezcla. Para que ninguna modificación se pierda en el mapa viejo, las modificaciones individuales comparten
+ * un cerrojo de lectura (pueden hacerse muchas a la vez) y las transformaciones toman el cerrojo de escritura, de forma exclusiva.
+ */
+public class SandboxMapasConcurrente
+{
+    /**
+     * La cantidad de elementos a partir de la cual las operaciones masivas del mapa se reparten entre varios hilos
+     */
+    private static final long UMBRAL_PARALELO = CargaMasiva.UMBRAL_PARALELO;
+
+    /**
+     * La versión actual del mapa y su índice. Es volatile porque las transformaciones la reemplazan por una nueva, que debe ser visible para los demás hilos.
+     */
+    private volatile Version actual;
+
+    /**
+     * El cerrojo que separa las modificaciones individuales (cerrojo de lectura, compartido) de las transformaciones de todo el mapa (cerrojo de escritura)
+     */
+    private final ReentrantReadWriteLock cerrojo;
+
+    /**
+     * Crea una nueva instancia de la clase con el mapa vacío
+     */
+    public SandboxMapasConcurrente( )
+    {
+        actual = new Version( new ConcurrentHashMap<LlaveInvertida, String>( ) );
+        cerrojo = new ReentrantReadWriteLock( );
+    }
+
+    /**
+     * Retorna una lista con las cadenas del mapa (los valores) ordenadas lexicográficamente
+     * @return Una lista ordenada con las cadenas que conforman los valores del mapa
+     */
+    public List<String> getValoresComoLista( )
+    {
+        String[] valores = actual.mapaCadenas.values( ).toArray( new String[0] );
+        Arrays.parallelSort( valores );
+        return new ArrayList<String>( Arrays.asList( valores ) );
+    }
+
+    /**
+     * Retorna una lista con las llaves del mapa ordenadas lexicográficamente de mayor a menor
+     * @return Una lista ordenada con las cadenas que conforman las llaves del mapa
+     */
+    public List<String> getLlavesComoListaInvertida( )
+    {
+        List<LlaveInvertida> llaves = new ArrayList<LlaveInvertida>( actual.mapaCadenas.keySet( ) );
+        Collections.sort( llaves, Collections.reverseOrder( ) );
+        List<String> resultado = new ArrayList<String>( llaves.size( ) );
+        for( LlaveInvertida llave : llaves )
+        {
+            resultado.add( llave.toString( ) );
+        }
+        return resultado;
+    }
+
+    /**
+     * Retorna la cadena que sea lexicográficamente menor dentro de los valores del mapa, reduciendo los valores en paralelo
+     * @return La menor cadena, o null si el mapa está vacío
+     */
+    public String getPrimera( )
+    {
+        return actual.mapaCadenas.reduceValues( UMBRAL_PARALELO, ( una, otra ) -> una.compareTo( otra ) <= 0 ? una : otra );
+    }
+
+    /**
+     * Retorna la cadena que sea lexicográficamente mayor dentro de los valores del mapa, reduciendo los valores en paralelo
+     * @return La mayor cadena, o null si el mapa está vacío
+     */
+    public String getUltima( )
+    {
+        return actual.mapaCadenas.reduceValues( UMBRAL_PARALELO, ( una, otra ) -> una.compareTo( otra ) >= 0 ? una : otra );
+    }
+
+    /**
+     * Retorna una colección con las llaves del mapa, convertidas a mayúsculas.
+     * @return Una lista de cadenas donde todas las cadenas están en mayúsculas
+     */
+    public Collection<String> getLlaves( )
+    {
+        List<String> llaves = new ArrayList<String>( );
+        for( LlaveInvertida llave : actual.mapaCadenas.keySet( ) )
+        {
+            llaves.add( llave.toString( ).toUpperCase( ) );
+        }
+        return llaves;
+    }
+
+    /**
+     * Retorna la cantidad de valores diferentes en el mapa, en O(1) con el índice de valores. Si otros hilos están modificando el mapa, el resultado puede no ser exacto.
+     * @return La cantidad de valores diferentes
+     */
+    public int getCantidadCadenasDiferentes( )
+    {
+        return actual.conteoValores.size( );
+    }
+
+    /**
+     * Agrega un nuevo valor al mapa de cadenas: el valor será el recibido por parámetro, y la llave será la cadena invertida
+     * @param cadena La cadena que se va a agregar al mapa
+     */
+    public void agregarCadena( String cadena )
+    {
+        LlaveInvertida llave = LlaveInvertida.invertir( cadena );
+        modificar( version -> {
+            String anterior = version.mapaCadenas.put( llave, cadena );
+            if( anterior != null )
+            {
+                version.contar( anterior, -1 );
+            }
+            version.contar( cadena, 1 );
+        } );
+    }
+
+    /**
+     * Elimina una cadena del mapa, dada la llave
+     * @param llave La llave para identificar el valor que se debe eliminar
+     */
+    public void eliminarCadenaConLLave( String llave )
+    {
+        LlaveInvertida buscada = LlaveInvertida.de( llave );
+        modificar( version -> {
+            String anterior = version.mapaCadenas.remove( buscada );
+            if( anterior != null )
+            {
+                version.contar( anterior, -1 );
+            }
+        } );
+    }
+
+    /**
+     * Elimina todas las llaves que tienen el valor dado. Si el índice indica que el valor no está, no recorre el mapa; si está, el mapa se recorre en paralelo y cada llave
+     * se elimina sólo si todavía tiene el valor.
+     * @param valor El valor que se debe eliminar
+     */
+    public void eliminarCadenaConValor( String valor )
+    {
+        modificar( version -> {
+            if( !version.conteoValores.containsKey( valor ) )
+            {
+                return;
+            }
+            version.mapaCadenas.forEach( UMBRAL_PARALELO, ( llave, valorActual ) -> {
+                if( valor.equals( valorActual ) && version.mapaCadenas.remove( llave, valor ) )
+                {
+                    version.contar( valor, -1 );
+                }
+            } );
+        } );
+    }
+
+    /**
+     * Reinicia el mapa de cadenas con las representaciones como Strings de los objetos contenidos en la lista del parámetro 'objetos', asociadas a sí mismas.
+     *
+     * La versión nueva se construye sin cerrojos y se publica de una sola vez.
+     * @param objetos Una lista de objetos
+     */
+    public void reiniciarMapaCadenas( List<Object> objetos )
+    {
+        String[] cadenas = CargaMasiva.convertirCadenas( objetos );
+        ConcurrentHashMap<LlaveInvertida, String> nuevo = new ConcurrentHashMap<LlaveInvertida, String>( CargaMasiva.capacidadPara( cadenas.length ) );
+        Arrays.stream( cadenas ).parallel( ).forEach( cadena -> nuevo.put( LlaveInvertida.de( cadena ), cadena ) );
+        Version version = new Version( nuevo );
+        publicar( ( ) -> version );
+    }
+
+    /**
+     * Modifica el mapa de cadenas reemplazando las llaves para que ahora todas estén en mayúsculas pero sigan conservando las mismas cadenas asociadas.
+     *
+     * La versión nueva se construye en paralelo a partir de la actual y se publica de una sola vez: las consultas ven todas las llaves originales o todas en mayúsculas. Si dos
+     * llaves quedan iguales en mayúsculas, se conserva uno de sus valores.
+     */
+    public void volverMayusculas( )
+    {
+        publicar( ( ) -> {
+            ConcurrentHashMap<LlaveInvertida, String> anterior = actual.mapaCadenas;
+            ConcurrentHashMap<LlaveInvertida, String> nuevo = new ConcurrentHashMap<LlaveInvertida, String>( CargaMasiva.capacidadPara( anterior.size( ) ) );
+            anterior.forEach( UMBRAL_PARALELO, ( llave, valor ) -> nuevo.put( LlaveInvertida.de( llave.toString( ).toUpperCase( ) ), valor ) );
+            return new Version( nuevo );
+        } );
+    }
+
+    /**
+     * Verifica si todos los elementos en el arreglo de cadenas del parámetro hacen parte de los valores del mapa.
+     *
+     * Cada cadena del arreglo se busca en el índice de valores en O(1), así que la consulta cuesta O(largo del arreglo) sin importar el tamaño del mapa. Si otros hilos
+     * están modificando el mapa, el resultado puede no ser exacto.
+     * @param otroArreglo El arreglo de cadenas con el que se debe comparar
+     * @return True si todos los elementos del arreglo están dentro de los valores del mapa
+     */
+    public boolean compararValores( String[] otroArreglo )
+    {
+        ConcurrentHashMap<String, Integer> valores = actual.conteoValores;
+        for( String valor : otroArreglo )
+        {
+            if( !valores.containsKey( valor ) )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ejecuta una modificación individual con el cerrojo compartido, para que no coincida con la publicación de un mapa nuevo
+     */
+    private void modificar( Consumer<Version> modificacion )
+    {
+        cerrojo.readLock( ).lock( );
+        try
+        {
+            modificacion.accept( actual );
+        }
+        finally
+        {
+            cerrojo.readLock( ).unlock( );
+        }
+    }
+
+    /**
+     * Construye una versión nueva y la publica con el cerrojo exclusivo, para que ninguna modificación individual quede en la versión reemplazada
+     */
+    private void publicar( Supplier<Version> construccion )
+    {
+        cerrojo.writeLock( ).lock( );
+        try
+        {
+            actual = construccion.get( );
+        }
+        finally
+        {
+            cerrojo.writeLock( ).unlock( );
+        }
+    }
+
+    /**
+     * Un mapa con su índice de valores. Las transformaciones reemplazan la versión completa, así que el mapa y el índice siempre se publican juntos.
+     */
+    private static final class Version
+    {
+        private final ConcurrentHashMap<LlaveInvertida, String> mapaCadenas;
+
+        /**
+         * La cantidad de llaves que tiene cada valor del mapa. Un valor sin llaves no aparece.
+         *
+         * Cada modificación individual cuenta exactamente el valor que agregó o retiró del mapa, así que el índice coincide con el mapa cuando no hay modificaciones en
+         * curso. Mientras otros hilos modifican el mapa, un conteo puede quedar momentáneamente negativo (si un hilo retira un valor antes de que el hilo que lo agregó lo
+         * cuente); se corrige cuando termina la modificación pendiente.
+         */
+        private final ConcurrentHashMap<String, Integer> conteoValores;
+
+        /**
+         * Crea una versión con un mapa que ningún otro hilo está modificando, y construye su índice recorriendo los valores en paralelo
+         */
+        private Version( ConcurrentHashMap<LlaveInvertida, String> mapaCadenas )
+        {
+            this.mapaCadenas = mapaCadenas;
+            this.conteoValores = new ConcurrentHashMap<String, Integer>( );
+            mapaCadenas.forEachValue( UMBRAL_PARALELO, valor -> contar( valor, 1 ) );
+        }
+
+        /**
+         * Suma 'cambio' a la cantidad de llaves del valor, y quita el valor del índice cuando la cantidad llega a 0
+         */
+        private void contar( String valor, int cambio )
+        {
+            conteoValores.merge( valor, cambio, ( cantidad, suma ) -> cantidad + suma == 0 ? null : cantidad + suma );
+        }
+    }
+}
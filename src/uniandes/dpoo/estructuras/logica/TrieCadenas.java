@@ -0,0 +1,555 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Esta clase es un trie comprimido (radix trie) de cadenas, pensado para responder consultas por prefijo.
+ *
+ * Cada arco tiene como etiqueta un fragmento de cadena en lugar de un solo carácter, y los nodos sólo existen donde las cadenas se separan o terminan. Las etiquetas no copian
+ * caracteres: son posiciones dentro de una de las cadenas agregadas, que ya está en memoria.
+ *
+ * Los hijos de cada nodo se guardan ordenados por su primer carácter, así que las cadenas se recorren en el mismo orden lexicográfico de String.compareTo. Buscar las cadenas
+ * que empiezan con un prefijo cuesta O(largo del prefijo + cantidad de resultados).
+ *
+ * El trie también responde búsquedas aproximadas (buscarSimilares): se recorre calculando la distancia de edición contra la cadena buscada carácter por carácter, así que
+ * las cadenas que comparten un prefijo comparten el cálculo, y una rama se abandona tan pronto ningún camino por ella puede quedar a la distancia pedida.
+ */
+public final class TrieCadenas
+{
+    /**
+     * Un nodo del trie. La etiqueta del arco que llega al nodo son los caracteres [inicio, fin) de la cadena fuente, e 'inicio' es también la profundidad del nodo padre.
+     */
+    private static final class Nodo
+    {
+        private String fuente;
+
+        private int inicio;
+
+        private int fin;
+
+        /**
+         * La cadena que termina en este nodo, o null si ninguna termina aquí
+         */
+        private String cadena;
+
+        /**
+         * El primer carácter de la etiqueta de cada hijo, en orden
+         */
+        private char[] primeros = SIN_PRIMEROS;
+
+        private Nodo[] hijos = SIN_HIJOS;
+
+        private int cantidadHijos;
+
+        private Nodo( String fuente, int inicio, int fin )
+        {
+            this.fuente = fuente;
+            this.inicio = inicio;
+            this.fin = fin;
+        }
+
+        /**
+         * Busca la posición del hijo cuya etiqueta empieza con el carácter. Si no existe retorna -(posición de inserción) - 1.
+         */
+        private int buscarHijo( char caracter )
+        {
+            int bajo = 0;
+            int alto = cantidadHijos - 1;
+            while( bajo <= alto )
+            {
+                int medio = ( bajo + alto ) >>> 1;
+                if( primeros[ medio ] < caracter )
+                    bajo = medio + 1;
+                else if( primeros[ medio ] > caracter )
+                    alto = medio - 1;
+                else
+                    return medio;
+            }
+            return - ( bajo + 1 );
+        }
+
+        private void insertarHijo( int posicion, Nodo hijo )
+        {
+            if( cantidadHijos == hijos.length )
+            {
+                int capacidad = Math.max( 2, cantidadHijos * 2 );
+                primeros = Arrays.copyOf( primeros, capacidad );
+                hijos = Arrays.copyOf( hijos, capacidad );
+            }
+            System.arraycopy( primeros, posicion, primeros, posicion + 1, cantidadHijos - posicion );
+            System.arraycopy( hijos, posicion, hijos, posicion + 1, cantidadHijos - posicion );
+            primeros[ posicion ] = hijo.fuente.charAt( hijo.inicio );
+            hijos[ posicion ] = hijo;
+            cantidadHijos++;
+        }
+
+        private void quitarHijo( int posicion )
+        {
+            System.arraycopy( primeros, posicion + 1, primeros, posicion, cantidadHijos - posicion - 1 );
+            System.arraycopy( hijos, posicion + 1, hijos, posicion, cantidadHijos - posicion - 1 );
+            cantidadHijos--;
+            hijos[ cantidadHijos ] = null;
+        }
+    }
+
+    private static final char[] SIN_PRIMEROS = new char[0];
+
+    private static final Nodo[] SIN_HIJOS = new Nodo[0];
+
+    /**
+     * La raíz del trie, que corresponde a la cadena vacía
+     */
+    private final Nodo raiz;
+
+    /**
+     * La cantidad de cadenas en el trie
+     */
+    private int tamanio;
+
+    /**
+     * Crea un trie vacío
+     */
+    public TrieCadenas( )
+    {
+        raiz = new Nodo( "", 0, 0 );
+    }
+
+    /**
+     * Crea un trie con las cadenas de la colección
+     * @param cadenas Las cadenas iniciales
+     */
+    public TrieCadenas( Collection<String> cadenas )
+    {
+        this( );
+        for( String cadena : cadenas )
+        {
+            agregar( cadena );
+        }
+    }
+
+    /**
+     * Retorna la cantidad de cadenas en el trie
+     * @return La cantidad de cadenas
+     */
+    public int getTamanio( )
+    {
+        return tamanio;
+    }
+
+    /**
+     * Agrega una cadena al trie
+     * @param cadena La cadena que se agrega
+     * @return True si la cadena no estaba en el trie
+     */
+    public boolean agregar( String cadena )
+    {
+        Nodo nodo = raiz;
+        int profundidad = 0;
+        while( profundidad < cadena.length( ) )
+        {
+            int posicion = nodo.buscarHijo( cadena.charAt( profundidad ) );
+            if( posicion < 0 )
+            {
+                nodo.insertarHijo( -posicion - 1, nuevaHoja( cadena, profundidad ) );
+                tamanio++;
+                return true;
+            }
+            Nodo hijo = nodo.hijos[ posicion ];
+            int comunes = caracteresComunes( hijo, cadena, profundidad );
+            if( comunes < hijo.fin - hijo.inicio )
+            {
+                // La cadena se separa en medio de la etiqueta: se parte el arco en dos
+                Nodo intermedio = new Nodo( hijo.fuente, hijo.inicio, hijo.inicio + comunes );
+                hijo.inicio += comunes;
+                intermedio.insertarHijo( 0, hijo );
+                nodo.hijos[ posicion ] = intermedio;
+                profundidad += comunes;
+                if( profundidad == cadena.length( ) )
+                {
+                    intermedio.cadena = cadena;
+                }
+                else
+                {
+                    Nodo hoja = nuevaHoja( cadena, profundidad );
+                    intermedio.insertarHijo( -intermedio.buscarHijo( cadena.charAt( profundidad ) ) - 1, hoja );
+                }
+                tamanio++;
+                return true;
+            }
+            nodo = hijo;
+            profundidad += comunes;
+        }
+        if( nodo.cadena != null )
+        {
+            return false;
+        }
+        nodo.cadena = cadena;
+        tamanio++;
+        return true;
+    }
+
+    /**
+     * Elimina una cadena del trie
+     * @param cadena La cadena que se elimina
+     * @return True si la cadena estaba en el trie
+     */
+    public boolean eliminar( String cadena )
+    {
+        Nodo abuelo = null;
+        Nodo padre = null;
+        Nodo nodo = raiz;
+        int profundidad = 0;
+        while( profundidad < cadena.length( ) )
+        {
+            int posicion = nodo.buscarHijo( cadena.charAt( profundidad ) );
+            if( posicion < 0 )
+            {
+                return false;
+            }
+            Nodo hijo = nodo.hijos[ posicion ];
+            int largo = hijo.fin - hijo.inicio;
+            if( caracteresComunes( hijo, cadena, profundidad ) < largo )
+            {
+                return false;
+            }
+            abuelo = padre;
+            padre = nodo;
+            nodo = hijo;
+            profundidad += largo;
+        }
+        if( nodo.cadena == null )
+        {
+            return false;
+        }
+        nodo.cadena = null;
+        tamanio--;
+
+        if( nodo == raiz )
+        {
+            return true;
+        }
+        if( nodo.cantidadHijos == 0 )
+        {
+            padre.quitarHijo( padre.buscarHijo( nodo.fuente.charAt( nodo.inicio ) ) );
+            if( padre != raiz && padre.cadena == null && padre.cantidadHijos == 1 )
+            {
+                fusionar( abuelo, padre );
+            }
+        }
+        else if( nodo.cantidadHijos == 1 )
+        {
+            fusionar( padre, nodo );
+        }
+        return true;
+    }
+
+    /**
+     * Indica si la cadena está en el trie
+     * @param cadena La cadena buscada
+     * @return True si la cadena está en el trie
+     */
+    public boolean contiene( String cadena )
+    {
+        Nodo nodo = raiz;
+        int profundidad = 0;
+        while( profundidad < cadena.length( ) )
+        {
+            int posicion = nodo.buscarHijo( cadena.charAt( profundidad ) );
+            if( posicion < 0 )
+            {
+                return false;
+            }
+            nodo = nodo.hijos[ posicion ];
+            int largo = nodo.fin - nodo.inicio;
+            if( caracteresComunes( nodo, cadena, profundidad ) < largo )
+            {
+                return false;
+            }
+            profundidad += largo;
+        }
+        return nodo.cadena != null;
+    }
+
+    /**
+     * Retorna las cadenas que empiezan con el prefijo, en orden lexicográfico
+     * @param prefijo El prefijo de las cadenas buscadas
+     * @param limite La cantidad máxima de cadenas que se retornan
+     * @return Una lista con a lo sumo 'limite' cadenas que empiezan con el prefijo
+     */
+    public List<String> getConPrefijo( String prefijo, int limite )
+    {
+        List<String> resultado = new ArrayList<String>( Math.min( Math.max( limite, 0 ), 16 ) );
+        if( limite <= 0 )
+        {
+            return resultado;
+        }
+        Nodo nodo = raiz;
+        int profundidad = 0;
+        while( profundidad < prefijo.length( ) )
+        {
+            int posicion = nodo.buscarHijo( prefijo.charAt( profundidad ) );
+            if( posicion < 0 )
+            {
+                return resultado;
+            }
+            nodo = nodo.hijos[ posicion ];
+            int comunes = caracteresComunes( nodo, prefijo, profundidad );
+            if( comunes < nodo.fin - nodo.inicio && profundidad + comunes < prefijo.length( ) )
+            {
+                return resultado;
+            }
+            profundidad += nodo.fin - nodo.inicio;
+        }
+
+        // Recorrido en preorden: cada nodo termina antes que las cadenas de sus hijos
+        Deque<Nodo> pendientes = new ArrayDeque<Nodo>( );
+        pendientes.push( nodo );
+        while( !pendientes.isEmpty( ) && resultado.size( ) < limite )
+        {
+            Nodo actual = pendientes.pop( );
+            if( actual.cadena != null )
+            {
+                resultado.add( actual.cadena );
+            }
+            for( int i = actual.cantidadHijos - 1; i >= 0; i-- )
+            {
+                pendientes.push( actual.hijos[ i ] );
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Retorna las cadenas del trie cuya distancia de edición (Levenshtein: inserciones, eliminaciones y sustituciones de un carácter) a la consulta es a lo sumo
+     * maxDistancia. Las cadenas más cercanas van primero, y las que están a la misma distancia van en orden lexicográfico.
+     *
+     * Sólo se calculan las casillas de la tabla de distancias que están a lo sumo maxDistancia de la diagonal, y cuando ya se tienen 'limite' resultados se deja de buscar
+     * cadenas que no podrían desplazarlos.
+     * @param consulta La cadena buscada
+     * @param maxDistancia La distancia de edición máxima de los resultados
+     * @param limite La cantidad máxima de cadenas que se retornan
+     * @return Una lista con a lo sumo 'limite' cadenas similares a la consulta
+     */
+    public List<String> buscarSimilares( String consulta, int maxDistancia, int limite )
+    {
+        if( limite <= 0 || maxDistancia < 0 )
+        {
+            return new ArrayList<String>( );
+        }
+        BusquedaSimilares busqueda = new BusquedaSimilares( consulta, maxDistancia, limite );
+        busqueda.visitar( raiz );
+        return busqueda.getResultado( );
+    }
+
+    /**
+     * Calcula la distancia de edición entre dos cadenas, sin pasar de un máximo
+     * @param una La primera cadena
+     * @param otra La segunda cadena
+     * @param maximo La distancia máxima que interesa
+     * @return La distancia de edición entre las cadenas, o maximo + 1 si es mayor que el máximo
+     */
+    static int distanciaAcotada( String una, String otra, int maximo )
+    {
+        if( Math.abs( una.length( ) - otra.length( ) ) > maximo )
+        {
+            return maximo + 1;
+        }
+        int[] anterior = filaInicial( una.length( ) );
+        int[] fila = new int[una.length( ) + 1];
+        for( int i = 1; i <= otra.length( ); i++ )
+        {
+            if( calcularFila( una, anterior, fila, i, otra.charAt( i - 1 ), maximo ) > maximo )
+            {
+                return maximo + 1;
+            }
+            int[] temporal = anterior;
+            anterior = fila;
+            fila = temporal;
+        }
+        return Math.min( anterior[ una.length( ) ], maximo + 1 );
+    }
+
+    /**
+     * La primera fila de la tabla de distancias: la distancia de la cadena vacía a cada prefijo de la consulta
+     */
+    private static int[] filaInicial( int largo )
+    {
+        int[] fila = new int[largo + 1];
+        for( int j = 0; j <= largo; j++ )
+        {
+            fila[ j ] = j;
+        }
+        return fila;
+    }
+
+    /**
+     * Calcula la fila i de la tabla de distancias a partir de la fila anterior, cuando el carácter i del otro lado es 'caracter'. Sólo se calculan las casillas a lo sumo
+     * 'maximo' posiciones de la diagonal; las casillas vecinas a la franja quedan en maximo + 1 para que la fila siguiente pueda leerlas.
+     * @return El menor valor de la fila. Si es mayor que el máximo, ninguna cadena que siga por este camino puede quedar a la distancia pedida.
+     */
+    private static int calcularFila( String consulta, int[] anterior, int[] fila, int i, char caracter, int maximo )
+    {
+        int largo = consulta.length( );
+        int desde = Math.max( 1, i - maximo );
+        int hasta = Math.min( largo, i + maximo );
+        fila[ 0 ] = i;
+        int minimo = i;
+        if( desde > 1 && desde - 1 <= largo )
+        {
+            fila[ desde - 1 ] = maximo + 1;
+        }
+        for( int j = desde; j <= hasta; j++ )
+        {
+            int costo = consulta.charAt( j - 1 ) == caracter ? 0 : 1;
+            int valor = Math.min( Math.min( anterior[ j ], fila[ j - 1 ] ) + 1, anterior[ j - 1 ] + costo );
+            fila[ j ] = valor;
+            minimo = Math.min( minimo, valor );
+        }
+        if( hasta < largo )
+        {
+            fila[ hasta + 1 ] = maximo + 1;
+        }
+        return minimo;
+    }
+
+    /**
+     * El estado de una búsqueda aproximada: las filas de la tabla de distancias del camino actual y los resultados agrupados por distancia
+     */
+    private static final class BusquedaSimilares
+    {
+        private final String consulta;
+
+        private final int limite;
+
+        /**
+         * La distancia máxima que todavía puede aportar resultados. Baja a medida que se llenan los resultados más cercanos.
+         */
+        private int maximo;
+
+        /**
+         * La fila de la tabla de distancias para cada profundidad del camino actual
+         */
+        private final List<int[]> filas;
+
+        /**
+         * Las cadenas encontradas, agrupadas por su distancia a la consulta
+         */
+        private final List<List<String>> porDistancia;
+
+        private BusquedaSimilares( String consulta, int maxDistancia, int limite )
+        {
+            this.consulta = consulta;
+            this.limite = limite;
+            this.maximo = maxDistancia;
+            this.filas = new ArrayList<int[]>( );
+            this.filas.add( filaInicial( consulta.length( ) ) );
+            this.porDistancia = new ArrayList<List<String>>( maxDistancia + 1 );
+            for( int d = 0; d <= maxDistancia; d++ )
+            {
+                porDistancia.add( new ArrayList<String>( ) );
+            }
+        }
+
+        /**
+         * Recorre el nodo y sus descendientes en orden lexicográfico, calculando una fila por cada carácter de la etiqueta del nodo
+         */
+        private void visitar( Nodo nodo )
+        {
+            int profundidad = nodo.inicio;
+            for( int p = nodo.inicio; p < nodo.fin; p++ )
+            {
+                profundidad++;
+                if( filas.size( ) <= profundidad )
+                {
+                    filas.add( new int[consulta.length( ) + 1] );
+                }
+                if( calcularFila( consulta, filas.get( profundidad - 1 ), filas.get( profundidad ), profundidad, nodo.fuente.charAt( p ), maximo ) > maximo )
+                {
+                    return;
+                }
+            }
+            // Si el largo de la cadena difiere del de la consulta en más que el máximo, la última casilla está fuera de la franja calculada
+            if( nodo.cadena != null && Math.abs( profundidad - consulta.length( ) ) <= maximo )
+            {
+                int distancia = filas.get( profundidad )[ consulta.length( ) ];
+                if( distancia <= maximo )
+                {
+                    agregar( nodo.cadena, distancia );
+                }
+            }
+            for( int h = 0; h < nodo.cantidadHijos; h++ )
+            {
+                visitar( nodo.hijos[ h ] );
+            }
+        }
+
+        private void agregar( String cadena, int distancia )
+        {
+            porDistancia.get( distancia ).add( cadena );
+            // Si ya hay 'limite' cadenas a distancia d o menos, las que falten por encontrar a distancia d o más no entrarían en el resultado
+            int acumuladas = 0;
+            for( int d = 0; d <= maximo; d++ )
+            {
+                acumuladas += porDistancia.get( d ).size( );
+                if( acumuladas >= limite )
+                {
+                    maximo = d - 1;
+                    return;
+                }
+            }
+        }
+
+        private List<String> getResultado( )
+        {
+            List<String> resultado = new ArrayList<String>( );
+            for( List<String> grupo : porDistancia )
+            {
+                for( String cadena : grupo )
+                {
+                    if( resultado.size( ) == limite )
+                    {
+                        return resultado;
+                    }
+                    resultado.add( cadena );
+                }
+            }
+            return resultado;
+        }
+    }
+
+    /**
+     * Une un nodo que no tiene cadena y tiene un único hijo con ese hijo. La etiqueta del hijo se extiende hacia atrás: su cadena fuente contiene todo el camino.
+     */
+    private static void fusionar( Nodo padre, Nodo nodo )
+    {
+        Nodo hijo = nodo.hijos[ 0 ];
+        hijo.inicio = nodo.inicio;
+        padre.hijos[ padre.buscarHijo( nodo.fuente.charAt( nodo.inicio ) ) ] = hijo;
+    }
+
+    private static Nodo nuevaHoja( String cadena, int profundidad )
+    {
+        Nodo hoja = new Nodo( cadena, profundidad, cadena.length( ) );
+        hoja.cadena = cadena;
+        return hoja;
+    }
+
+    /**
+     * Cuenta cuántos caracteres de la etiqueta del nodo coinciden con la cadena a partir de una posición
+     */
+    private static int caracteresComunes( Nodo nodo, String cadena, int desde )
+    {
+        int largo = Math.min( nodo.fin - nodo.inicio, cadena.length( ) - desde );
+        int comunes = 0;
+        while( comunes < largo && nodo.fuente.charAt( nodo.inicio + comunes ) == cadena.charAt( desde + comunes ) )
+        {
+            comunes++;
+        }
+        return comunes;
+    }
+}
@@ -0,0 +1,339 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Esta clase es un vector inmutable y persistente, implementado como un trie donde cada nodo tiene 32 hijos y el índice de cada elemento se parte en grupos de 5 bits.
+ *
+ * Las operaciones que "modifican" el vector (agregar, cambiar y quitarUltimo) no lo cambian: retornan un vector nuevo que comparte con el anterior todos los nodos que no se
+ * tocaron, así que sólo copian los O(log32 n) nodos del camino hasta el elemento. Las versiones anteriores siguen siendo válidas y pueden leerse desde cualquier hilo.
+ *
+ * Los últimos elementos (hasta 32) se guardan aparte, en la cola, para que agregar al final casi nunca tenga que recorrer el trie.
+ *
+ * Los métodos de List que modifican la lista lanzan UnsupportedOperationException.
+ *
+ * @param <E> El tipo de los elementos del vector
+ */
+public final class VectorPersistente<E> extends AbstractList<E> implements RandomAccess
+{
+    private static final int BITS = 5;
+
+    private static final int ANCHO = 1 << BITS;
+
+    private static final int MASCARA = ANCHO - 1;
+
+    private static final Object[] NODO_VACIO = new Object[ANCHO];
+
+    private static final VectorPersistente<Object> VACIO = new VectorPersistente<Object>( 0, BITS, NODO_VACIO, new Object[0] );
+
+    /**
+     * La cantidad de elementos del vector
+     */
+    private final int tamanio;
+
+    /**
+     * La cantidad de bits que hay que desplazar un índice para obtener la posición en la raíz
+     */
+    private final int desplazamiento;
+
+    /**
+     * La raíz del trie. Los nodos internos son arreglos de nodos y las hojas son arreglos de elementos.
+     */
+    private final Object[] raiz;
+
+    /**
+     * Los últimos elementos del vector, que todavía no hacen parte del trie
+     */
+    private final Object[] cola;
+
+    private VectorPersistente( int tamanio, int desplazamiento, Object[] raiz, Object[] cola )
+    {
+        this.tamanio = tamanio;
+        this.desplazamiento = desplazamiento;
+        this.raiz = raiz;
+        this.cola = cola;
+    }
+
+    /**
+     * Retorna el vector vacío
+     * @return Un vector sin elementos
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> VectorPersistente<E> vacio( )
+    {
+        return (VectorPersistente<E>)VACIO;
+    }
+
+    /**
+     * Construye un vector con los elementos de la colección, en el orden de su iterador. Los elementos se agregan de a 32, así que la construcción cuesta O(n).
+     * @param elementos Los elementos del vector
+     * @return Un vector con los elementos
+     */
+    public static <E> VectorPersistente<E> desde( Collection<? extends E> elementos )
+    {
+        Object[] valores = elementos.toArray( );
+        VectorPersistente<E> vector = vacio( );
+        for( int inicio = 0; inicio < valores.length; inicio += ANCHO )
+        {
+            int cantidad = Math.min( ANCHO, valores.length - inicio );
+            Object[] hoja = new Object[cantidad];
+            System.arraycopy( valores, inicio, hoja, 0, cantidad );
+            vector = vector.conNuevaCola( hoja );
+        }
+        return vector;
+    }
+
+    @Override
+    public int size( )
+    {
+        return tamanio;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get( int indice )
+    {
+        revisarIndice( indice );
+        return (E)hojaDe( indice )[ indice & MASCARA ];
+    }
+
+    /**
+     * Retorna un vector con un elemento más al final
+     * @param elemento El elemento que se agrega
+     * @return El nuevo vector. Este vector no cambia.
+     */
+    public VectorPersistente<E> agregar( E elemento )
+    {
+        if( tamanio - inicioCola( ) < ANCHO )
+        {
+            Object[] nuevaCola = new Object[cola.length + 1];
+            System.arraycopy( cola, 0, nuevaCola, 0, cola.length );
+            nuevaCola[ cola.length ] = elemento;
+            return new VectorPersistente<E>( tamanio + 1, desplazamiento, raiz, nuevaCola );
+        }
+        return conNuevaCola( new Object[]{ elemento } );
+    }
+
+    /**
+     * Retorna un vector donde el elemento de una posición fue reemplazado
+     * @param indice La posición del elemento
+     * @param elemento El nuevo elemento
+     * @return El nuevo vector. Este vector no cambia.
+     */
+    public VectorPersistente<E> cambiar( int indice, E elemento )
+    {
+        revisarIndice( indice );
+        if( indice >= inicioCola( ) )
+        {
+            Object[] nuevaCola = cola.clone( );
+            nuevaCola[ indice & MASCARA ] = elemento;
+            return new VectorPersistente<E>( tamanio, desplazamiento, raiz, nuevaCola );
+        }
+        return new VectorPersistente<E>( tamanio, desplazamiento, cambiar( desplazamiento, raiz, indice, elemento ), cola );
+    }
+
+    /**
+     * Retorna un vector sin el último elemento
+     * @return El nuevo vector. Este vector no cambia.
+     * @throws IllegalStateException Si el vector está vacío
+     */
+    public VectorPersistente<E> quitarUltimo( )
+    {
+        if( tamanio == 0 )
+        {
+            throw new IllegalStateException( "El vector está vacío" );
+        }
+        if( tamanio == 1 )
+        {
+            return vacio( );
+        }
+        if( tamanio - inicioCola( ) > 1 )
+        {
+            Object[] nuevaCola = new Object[cola.length - 1];
+            System.arraycopy( cola, 0, nuevaCola, 0, nuevaCola.length );
+            return new VectorPersistente<E>( tamanio - 1, desplazamiento, raiz, nuevaCola );
+        }
+        // La cola queda vacía: la última hoja del trie pasa a ser la cola
+        Object[] nuevaCola = hojaDe( tamanio - 2 );
+        Object[] nuevaRaiz = quitarHoja( desplazamiento, raiz );
+        int nuevoDesplazamiento = desplazamiento;
+        if( nuevaRaiz == null )
+        {
+            nuevaRaiz = NODO_VACIO;
+        }
+        if( desplazamiento > BITS && nuevaRaiz[ 1 ] == null )
+        {
+            nuevaRaiz = (Object[])nuevaRaiz[ 0 ];
+            nuevoDesplazamiento -= BITS;
+        }
+        return new VectorPersistente<E>( tamanio - 1, nuevoDesplazamiento, nuevaRaiz, nuevaCola );
+    }
+
+    /**
+     * Retorna un iterador que recorre el vector hoja por hoja
+     */
+    @Override
+    public Iterator<E> iterator( )
+    {
+        return new Iterator<E>( )
+        {
+            private int siguiente = 0;
+
+            private Object[] hoja = tamanio > 0 ? hojaDe( 0 ) : null;
+
+            @Override
+            public boolean hasNext( )
+            {
+                return siguiente < tamanio;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next( )
+            {
+                if( siguiente >= tamanio )
+                {
+                    throw new NoSuchElementException( );
+                }
+                if( siguiente > 0 && ( siguiente & MASCARA ) == 0 )
+                {
+                    hoja = hojaDe( siguiente );
+                }
+                return (E)hoja[ siguiente++ & MASCARA ];
+            }
+        };
+    }
+
+    /**
+     * Retorna la posición del primer elemento que está en la cola
+     */
+    private int inicioCola( )
+    {
+        return tamanio < ANCHO ? 0 : ( ( tamanio - 1 ) >>> BITS ) << BITS;
+    }
+
+    /**
+     * Retorna la hoja (o la cola) donde está el elemento de una posición
+     */
+    private Object[] hojaDe( int indice )
+    {
+        if( indice >= inicioCola( ) )
+        {
+            return cola;
+        }
+        Object[] nodo = raiz;
+        for( int nivel = desplazamiento; nivel > 0; nivel -= BITS )
+        {
+            nodo = (Object[])nodo[ ( indice >>> nivel ) & MASCARA ];
+        }
+        return nodo;
+    }
+
+    /**
+     * Retorna un vector donde la cola actual, que debe estar llena (o vacía si el vector está vacío), pasa al trie y la cola nueva es la recibida.
+     */
+    private VectorPersistente<E> conNuevaCola( Object[] nuevaCola )
+    {
+        if( tamanio == 0 )
+        {
+            return new VectorPersistente<E>( nuevaCola.length, BITS, NODO_VACIO, nuevaCola );
+        }
+        Object[] nuevaRaiz;
+        int nuevoDesplazamiento = desplazamiento;
+        if( ( tamanio >>> BITS ) > ( 1 << desplazamiento ) )
+        {
+            // La raíz está llena: el trie crece un nivel
+            nuevaRaiz = new Object[ANCHO];
+            nuevaRaiz[ 0 ] = raiz;
+            nuevaRaiz[ 1 ] = nuevoCamino( desplazamiento, cola );
+            nuevoDesplazamiento += BITS;
+        }
+        else
+        {
+            nuevaRaiz = agregarHoja( desplazamiento, raiz, cola );
+        }
+        return new VectorPersistente<E>( tamanio + nuevaCola.length, nuevoDesplazamiento, nuevaRaiz, nuevaCola );
+    }
+
+    private Object[] agregarHoja( int nivel, Object[] padre, Object[] hoja )
+    {
+        int posicion = ( ( tamanio - 1 ) >>> nivel ) & MASCARA;
+        Object[] copia = padre.clone( );
+        Object nuevoHijo;
+        if( nivel == BITS )
+        {
+            nuevoHijo = hoja;
+        }
+        else
+        {
+            Object[] hijo = (Object[])padre[ posicion ];
+            nuevoHijo = hijo != null ? agregarHoja( nivel - BITS, hijo, hoja ) : nuevoCamino( nivel - BITS, hoja );
+        }
+        copia[ posicion ] = nuevoHijo;
+        return copia;
+    }
+
+    private static Object[] nuevoCamino( int nivel, Object[] hoja )
+    {
+        if( nivel == 0 )
+        {
+            return hoja;
+        }
+        Object[] nodo = new Object[ANCHO];
+        nodo[ 0 ] = nuevoCamino( nivel - BITS, hoja );
+        return nodo;
+    }
+
+    private static Object[] cambiar( int nivel, Object[] nodo, int indice, Object elemento )
+    {
+        Object[] copia = nodo.clone( );
+        if( nivel == 0 )
+        {
+            copia[ indice & MASCARA ] = elemento;
+        }
+        else
+        {
+            int posicion = ( indice >>> nivel ) & MASCARA;
+            copia[ posicion ] = cambiar( nivel - BITS, (Object[])nodo[ posicion ], indice, elemento );
+        }
+        return copia;
+    }
+
+    /**
+     * Quita la última hoja del trie. Retorna null si el nodo queda vacío.
+     */
+    private Object[] quitarHoja( int nivel, Object[] nodo )
+    {
+        int posicion = ( ( tamanio - 2 ) >>> nivel ) & MASCARA;
+        if( nivel > BITS )
+        {
+            Object[] nuevoHijo = quitarHoja( nivel - BITS, (Object[])nodo[ posicion ] );
+            if( nuevoHijo == null && posicion == 0 )
+            {
+                return null;
+            }
+            Object[] copia = nodo.clone( );
+            copia[ posicion ] = nuevoHijo;
+            return copia;
+        }
+        if( posicion == 0 )
+        {
+            return null;
+        }
+        Object[] copia = nodo.clone( );
+        copia[ posicion ] = null;
+        return copia;
+    }
+
+    private void revisarIndice( int indice )
+    {
+        if( indice < 0 || indice >= tamanio )
+        {
+            throw new IndexOutOfBoundsException( "Índice: " + indice + ", tamaño: " + tamanio );
+        }
+    }
+}
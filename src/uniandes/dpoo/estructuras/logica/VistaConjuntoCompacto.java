@@ -0,0 +1,231 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+
+/**
+ * Esta clase es un NavigableSet de sólo lectura sobre un rango de posiciones de un ConjuntoCadenasCompacto, para que el conjunto compacto (por ejemplo, uno abierto desde un
+ * archivo mapeado en memoria) pueda usarse donde se espera un NavigableSet sin copiar las cadenas.
+ *
+ * first, last, contains, las búsquedas (ceiling, floor, higher, lower) y los sub-conjuntos (subSet, headSet, tailSet) cuestan O(log n) y no copian nada: los
+ * sub-conjuntos son otras vistas sobre el mismo conjunto compacto. La única operación que copia es descendingSet; para recorrer en orden descendente sin copiar se usa
+ * descendingIterator.
+ *
+ * Cualquier operación que modifique el conjunto lanza UnsupportedOperationException.
+ */
+public class VistaConjuntoCompacto extends AbstractSet<String> implements NavigableSet<String>
+{
+    /**
+     * El conjunto compacto con las cadenas
+     */
+    private final ConjuntoCadenasCompacto compacto;
+
+    /**
+     * La posición en el conjunto compacto de la primera cadena de la vista
+     */
+    private final int desde;
+
+    /**
+     * La posición en el conjunto compacto siguiente a la última cadena de la vista
+     */
+    private final int hasta;
+
+    /**
+     * Crea una vista sobre todas las cadenas de un conjunto compacto
+     * @param compacto El conjunto compacto
+     */
+    public VistaConjuntoCompacto( ConjuntoCadenasCompacto compacto )
+    {
+        this( compacto, 0, compacto.size( ) );
+    }
+
+    private VistaConjuntoCompacto( ConjuntoCadenasCompacto compacto, int desde, int hasta )
+    {
+        this.compacto = compacto;
+        this.desde = desde;
+        this.hasta = hasta;
+    }
+
+    @Override
+    public int size( )
+    {
+        return hasta - desde;
+    }
+
+    @Override
+    public boolean contains( Object objeto )
+    {
+        if( !( objeto instanceof String ) )
+        {
+            return false;
+        }
+        int posicion = compacto.buscar( (String)objeto );
+        return posicion >= desde && posicion < hasta;
+    }
+
+    @Override
+    public Iterator<String> iterator( )
+    {
+        return compacto.iterador( desde, hasta );
+    }
+
+    @Override
+    public Iterator<String> descendingIterator( )
+    {
+        return compacto.iteradorDescendente( desde, hasta );
+    }
+
+    /**
+     * Retorna las cadenas de la vista en orden descendente. Como la vista no puede modificarse, el resultado es una copia de sólo lectura.
+     */
+    @Override
+    public NavigableSet<String> descendingSet( )
+    {
+        return Collections.unmodifiableNavigableSet( new TreeSet<String>( this ).descendingSet( ) );
+    }
+
+    @Override
+    public Comparator<? super String> comparator( )
+    {
+        return null;
+    }
+
+    @Override
+    public String first( )
+    {
+        if( desde == hasta )
+        {
+            throw new NoSuchElementException( );
+        }
+        return compacto.get( desde );
+    }
+
+    @Override
+    public String last( )
+    {
+        if( desde == hasta )
+        {
+            throw new NoSuchElementException( );
+        }
+        return compacto.get( hasta - 1 );
+    }
+
+    @Override
+    public String ceiling( String cadena )
+    {
+        return cadenaEn( Math.max( posicionMayorOIgual( cadena ), desde ) );
+    }
+
+    @Override
+    public String higher( String cadena )
+    {
+        return cadenaEn( Math.max( posicionMayor( cadena ), desde ) );
+    }
+
+    @Override
+    public String floor( String cadena )
+    {
+        return cadenaEn( Math.min( posicionMayor( cadena ), hasta ) - 1 );
+    }
+
+    @Override
+    public String lower( String cadena )
+    {
+        return cadenaEn( Math.min( posicionMayorOIgual( cadena ), hasta ) - 1 );
+    }
+
+    @Override
+    public String pollFirst( )
+    {
+        throw new UnsupportedOperationException( "El conjunto es de sólo lectura" );
+    }
+
+    @Override
+    public String pollLast( )
+    {
+        throw new UnsupportedOperationException( "El conjunto es de sólo lectura" );
+    }
+
+    @Override
+    public NavigableSet<String> subSet( String desdeCadena, boolean desdeIncluida, String hastaCadena, boolean hastaIncluida )
+    {
+        if( desdeCadena.compareTo( hastaCadena ) > 0 )
+        {
+            throw new IllegalArgumentException( "El inicio del rango es mayor que el final" );
+        }
+        int inicio = desdeIncluida ? posicionMayorOIgual( desdeCadena ) : posicionMayor( desdeCadena );
+        int fin = hastaIncluida ? posicionMayor( hastaCadena ) : posicionMayorOIgual( hastaCadena );
+        return vista( inicio, fin );
+    }
+
+    @Override
+    public NavigableSet<String> headSet( String hastaCadena, boolean incluida )
+    {
+        return vista( desde, incluida ? posicionMayor( hastaCadena ) : posicionMayorOIgual( hastaCadena ) );
+    }
+
+    @Override
+    public NavigableSet<String> tailSet( String desdeCadena, boolean incluida )
+    {
+        return vista( incluida ? posicionMayorOIgual( desdeCadena ) : posicionMayor( desdeCadena ), hasta );
+    }
+
+    @Override
+    public NavigableSet<String> subSet( String desdeCadena, String hastaCadena )
+    {
+        return subSet( desdeCadena, true, hastaCadena, false );
+    }
+
+    @Override
+    public NavigableSet<String> headSet( String hastaCadena )
+    {
+        return headSet( hastaCadena, false );
+    }
+
+    @Override
+    public NavigableSet<String> tailSet( String desdeCadena )
+    {
+        return tailSet( desdeCadena, true );
+    }
+
+    /**
+     * Crea una vista sobre las posiciones [inicio, fin), recortadas al rango de esta vista
+     */
+    private VistaConjuntoCompacto vista( int inicio, int fin )
+    {
+        inicio = Math.max( inicio, desde );
+        fin = Math.max( Math.min( fin, hasta ), inicio );
+        return new VistaConjuntoCompacto( compacto, inicio, fin );
+    }
+
+    /**
+     * Retorna la posición en el conjunto compacto de la primera cadena mayor o igual a la cadena dada
+     */
+    private int posicionMayorOIgual( String cadena )
+    {
+        int posicion = compacto.buscar( cadena );
+        return posicion >= 0 ? posicion : -posicion - 1;
+    }
+
+    /**
+     * Retorna la posición en el conjunto compacto de la primera cadena estrictamente mayor a la cadena dada
+     */
+    private int posicionMayor( String cadena )
+    {
+        int posicion = compacto.buscar( cadena );
+        return posicion >= 0 ? posicion + 1 : -posicion - 1;
+    }
+
+    /**
+     * Retorna la cadena en una posición del conjunto compacto, o null si la posición no está en la vista
+     */
+    private String cadenaEn( int posicion )
+    {
+        return posicion >= desde && posicion < hasta ? compacto.get( posicion ) : null;
+    }
+}
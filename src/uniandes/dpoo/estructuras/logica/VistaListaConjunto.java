@@ -0,0 +1,275 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Esta clase es una lista de sólo lectura que muestra los elementos de un conjunto ordenado, en orden ascendente o descendente, sin copiarlos.
+ *
+ * La vista es viva: cada operación consulta el conjunto actual, así que refleja los cambios que se hagan al conjunto después de crearla, incluso si el dueño del conjunto
+ * lo reemplaza por otro. Recorrer la vista (con su iterador, un stream o un for) no copia ningún elemento.
+ *
+ * El acceso por posición (get) guarda un cursor sobre el conjunto: pedir la posición siguiente a la última pedida cuesta O(1), así que recorrer la vista con get(0), get(1),
+ * ... cuesta O(n) en total. Pedir una posición anterior reinicia el cursor. El cursor se descarta si el conjunto cambia; sobre un ConcurrentSkipListSet, cuyos iteradores no
+ * detectan los cambios, no se usa cursor y cada get recorre el conjunto desde el inicio. El cursor hace que get no sea seguro para usarse desde varios hilos a la vez.
+ *
+ * @param <E> El tipo de los elementos del conjunto
+ */
+public class VistaListaConjunto<E> extends AbstractList<E>
+{
+    /**
+     * El tamaño inicial de los lotes en que se parte un spliterator que no sabe partirse solo
+     */
+    private static final int LOTE_INICIAL = 1 << 10;
+
+    /**
+     * El tamaño máximo de los lotes
+     */
+    private static final int LOTE_MAXIMO = 1 << 25;
+
+    /**
+     * Retorna el conjunto actual que muestra la vista
+     */
+    private final Supplier<? extends NavigableSet<E>> conjunto;
+
+    /**
+     * Indica si la vista muestra el conjunto de mayor a menor
+     */
+    private final boolean descendente;
+
+    /**
+     * El conjunto sobre el que se creó el cursor
+     */
+    private NavigableSet<E> baseCursor;
+
+    /**
+     * El cursor del último acceso por posición, o null si no hay cursor
+     */
+    private Iterator<E> cursor;
+
+    /**
+     * La posición del elemento que el cursor retorna en el próximo next
+     */
+    private int posicionCursor;
+
+    /**
+     * Crea una vista sobre un conjunto
+     * @param conjunto Una función que retorna el conjunto actual. Se llama en cada operación, así que la vista sigue al conjunto aunque se reemplace.
+     * @param descendente Indica si la vista muestra el conjunto de mayor a menor
+     */
+    public VistaListaConjunto( Supplier<? extends NavigableSet<E>> conjunto, boolean descendente )
+    {
+        this.conjunto = conjunto;
+        this.descendente = descendente;
+    }
+
+    @Override
+    public int size( )
+    {
+        return conjunto.get( ).size( );
+    }
+
+    @Override
+    public boolean isEmpty( )
+    {
+        return conjunto.get( ).isEmpty( );
+    }
+
+    @Override
+    public boolean contains( Object objeto )
+    {
+        try
+        {
+            return conjunto.get( ).contains( objeto );
+        }
+        catch( ClassCastException e )
+        {
+            return false;
+        }
+    }
+
+    @Override
+    public E get( int indice )
+    {
+        if( indice < 0 )
+        {
+            throw new IndexOutOfBoundsException( "Índice: " + indice );
+        }
+        NavigableSet<E> actual = conjunto.get( );
+        if( actual instanceof ConcurrentSkipListSet )
+        {
+            return avanzar( recorrer( actual ), indice );
+        }
+        try
+        {
+            return getConCursor( actual, indice );
+        }
+        catch( ConcurrentModificationException e )
+        {
+            // El conjunto cambió desde el último acceso: se reinicia el cursor
+            cursor = null;
+            return getConCursor( actual, indice );
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator( )
+    {
+        Iterator<E> elementos = recorrer( conjunto.get( ) );
+        return new Iterator<E>( )
+        {
+            @Override
+            public boolean hasNext( )
+            {
+                return elementos.hasNext( );
+            }
+
+            @Override
+            public E next( )
+            {
+                return elementos.next( );
+            }
+        };
+    }
+
+    /**
+     * Retorna un spliterator sobre los elementos de la vista. En orden ascendente usa el spliterator del conjunto, que se parte por rangos del árbol; si el conjunto no sabe
+     * partirse, o si la vista es descendente, se parte en lotes de tamaño creciente para que los streams paralelos puedan repartir el trabajo.
+     */
+    @Override
+    public Spliterator<E> spliterator( )
+    {
+        NavigableSet<E> actual = conjunto.get( );
+        if( descendente )
+        {
+            return new SpliteratorPorLotes<E>( Spliterators.spliteratorUnknownSize( actual.descendingIterator( ),
+                    Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL ) );
+        }
+        return new SpliteratorPorLotes<E>( actual.spliterator( ) );
+    }
+
+    private E getConCursor( NavigableSet<E> actual, int indice )
+    {
+        if( cursor == null || baseCursor != actual || indice < posicionCursor )
+        {
+            baseCursor = actual;
+            cursor = recorrer( actual );
+            posicionCursor = 0;
+        }
+        try
+        {
+            E elemento = avanzar( cursor, indice - posicionCursor );
+            posicionCursor = indice + 1;
+            return elemento;
+        }
+        catch( IndexOutOfBoundsException e )
+        {
+            cursor = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Avanza el iterador 'saltos' elementos y retorna el siguiente
+     */
+    private E avanzar( Iterator<E> elementos, int saltos )
+    {
+        try
+        {
+            for( int i = 0; i < saltos; i++ )
+            {
+                elementos.next( );
+            }
+            return elementos.next( );
+        }
+        catch( NoSuchElementException e )
+        {
+            throw new IndexOutOfBoundsException( "La posición está por fuera de la lista" );
+        }
+    }
+
+    private Iterator<E> recorrer( NavigableSet<E> actual )
+    {
+        return descendente ? actual.descendingIterator( ) : actual.iterator( );
+    }
+
+    /**
+     * Un spliterator que se parte con el spliterator original cuando éste lo permite, y si no, separando lotes de elementos en arreglos
+     */
+    private static final class SpliteratorPorLotes<E> implements Spliterator<E>
+    {
+        private final Spliterator<E> original;
+
+        private int lote = LOTE_INICIAL;
+
+        private SpliteratorPorLotes( Spliterator<E> original )
+        {
+            this.original = original;
+        }
+
+        @Override
+        public boolean tryAdvance( Consumer<? super E> accion )
+        {
+            return original.tryAdvance( accion );
+        }
+
+        @Override
+        public void forEachRemaining( Consumer<? super E> accion )
+        {
+            original.forEachRemaining( accion );
+        }
+
+        @Override
+        public Spliterator<E> trySplit( )
+        {
+            Spliterator<E> parte = original.trySplit( );
+            if( parte != null )
+            {
+                return new SpliteratorPorLotes<E>( parte );
+            }
+            Object[] elementos = new Object[lote];
+            Object[] actual = new Object[1];
+            int cantidad = 0;
+            while( cantidad < lote && original.tryAdvance( elemento -> actual[ 0 ] = elemento ) )
+            {
+                elementos[ cantidad++ ] = actual[ 0 ];
+            }
+            if( cantidad == 0 )
+            {
+                return null;
+            }
+            lote = Math.min( lote + LOTE_INICIAL, LOTE_MAXIMO );
+            // El lote no reporta SORTED: un arreglo no puede reportar el comparador del conjunto
+            int caracteristicas = ( original.characteristics( ) & ~Spliterator.SORTED ) | Spliterator.SIZED | Spliterator.SUBSIZED;
+            return Spliterators.spliterator( elementos, 0, cantidad, caracteristicas );
+        }
+
+        @Override
+        public long estimateSize( )
+        {
+            return original.estimateSize( );
+        }
+
+        @Override
+        public int characteristics( )
+        {
+            // Después de separar lotes el tamaño del original deja de ser exacto
+            return original.characteristics( ) & ~( Spliterator.SIZED | Spliterator.SUBSIZED );
+        }
+
+        @Override
+        public Comparator<? super E> getComparator( )
+        {
+            return original.getComparator( );
+        }
+    }
+}
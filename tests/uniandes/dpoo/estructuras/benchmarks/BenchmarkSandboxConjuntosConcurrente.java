@@ -0,0 +1,83 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
+
+import uniandes.dpoo.estructuras.logica.SandboxConjuntos;
+
+/**
+ * Compara SandboxConjuntos en modo concurrente (ConcurrentSkipListSet) con SandboxConjuntos sobre un TreeSet protegido por un candado global, con 1 a 64 hilos.
+ *
+ * De cada 100 operaciones, 70 son consultas (getPrimera, getUltima o recorrer las primeras cadenas de getSiguientes) y 30 son modificaciones: 15 agregan una cadena
+ * aleatoria, 10 eliminan una cadena aleatoria y 5 eliminan la primera. Las cadenas salen de un universo de 2 * TAMANIO_INICIAL valores, así que el tamaño del conjunto
+ * se mantiene estable.
+ */
+public class BenchmarkSandboxConjuntosConcurrente
+{
+    private static final int TAMANIO_INICIAL = 10000;
+    private static final int[] HILOS = new int[]{ 1, 2, 4, 8, 16, 32, 64 };
+    private static final long CALENTAMIENTO_MS = 1000;
+    private static final long DURACION_MS = 2000;
+
+    public static void main( String[] args ) throws InterruptedException
+    {
+        for( int hilos : HILOS )
+        {
+            SandboxConjuntos concurrente = llenar( new SandboxConjuntos( true ) );
+            SandboxConjuntos bloqueado = llenar( new SandboxConjuntos( ) );
+            Object candado = new Object( );
+
+            double sinCandado = MedicionConcurrente.operacionesPorSegundo( hilos, CALENTAMIENTO_MS, DURACION_MS, iteracion -> operar( concurrente, iteracion ) );
+            double conCandado = MedicionConcurrente.operacionesPorSegundo( hilos, CALENTAMIENTO_MS, DURACION_MS, iteracion -> {
+                synchronized( candado )
+                {
+                    operar( bloqueado, iteracion );
+                }
+            } );
+
+            System.out.printf( "%2d hilos: ConcurrentSkipListSet %,14.0f ops/s   TreeSet con candado %,14.0f ops/s%n", hilos, sinCandado, conCandado );
+        }
+    }
+
+    private static SandboxConjuntos llenar( SandboxConjuntos sandbox )
+    {
+        for( int i = 0; i < TAMANIO_INICIAL; i++ )
+        {
+            sandbox.agregarCadena( cadenaAleatoria( ) );
+        }
+        return sandbox;
+    }
+
+    private static String cadenaAleatoria( )
+    {
+        return "cadena-" + ThreadLocalRandom.current( ).nextInt( 2 * TAMANIO_INICIAL );
+    }
+
+    private static void operar( SandboxConjuntos sandbox, int iteracion )
+    {
+        int tipo = iteracion % 100;
+        if( tipo < 15 )
+            sandbox.agregarCadena( cadenaAleatoria( ) );
+        else if( tipo < 25 )
+            sandbox.eliminarCadena( cadenaAleatoria( ) );
+        else if( tipo < 30 )
+            sandbox.eliminarPrimera( );
+        else if( tipo < 50 )
+            sandbox.getPrimera( );
+        else if( tipo < 70 )
+            sandbox.getUltima( );
+        else
+            recorrer( sandbox, cadenaAleatoria( ) );
+    }
+
+    private static int recorrer( SandboxConjuntos sandbox, String desde )
+    {
+        int largo = 0;
+        Iterator<String> siguientes = sandbox.getSiguientes( desde ).iterator( );
+        for( int i = 0; i < 10 && siguientes.hasNext( ); i++ )
+        {
+            largo += siguientes.next( ).length( );
+        }
+        return largo;
+    }
+}
@@ -0,0 +1,92 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import uniandes.dpoo.estructuras.logica.SandboxListasConcurrente;
+
+/**
+ * Compara SandboxListasConcurrente con una lista envuelta en Collections.synchronizedList, con una carga donde predominan las lecturas.
+ *
+ * De cada 100 operaciones, 90 son consultas (contarApariciones o getCopiaEnteros) y 10 son modificaciones que agregan y eliminan enteros para que el tamaño de la
+ * lista se mantenga cerca del tamaño inicial.
+ */
+public class BenchmarkSandboxListasConcurrente
+{
+    private static final int TAMANIO_INICIAL = 1000;
+    private static final int[] HILOS = new int[]{ 1, 2, 4, 8 };
+    private static final long CALENTAMIENTO_MS = 1000;
+    private static final long DURACION_MS = 2000;
+
+    public static void main( String[] args ) throws InterruptedException
+    {
+        for( int hilos : HILOS )
+        {
+            SandboxListasConcurrente sandbox = new SandboxListasConcurrente( );
+            List<Integer> sincronizada = Collections.synchronizedList( new ArrayList<Integer>( ) );
+            for( int i = 0; i < TAMANIO_INICIAL; i++ )
+            {
+                sandbox.agregarEntero( i % 10 );
+                sincronizada.add( i % 10 );
+            }
+
+            double concurrente = MedicionConcurrente.operacionesPorSegundo( hilos, CALENTAMIENTO_MS, DURACION_MS, iteracion -> {
+                int tipo = iteracion % 100;
+                if( tipo < 5 )
+                    sandbox.agregarEntero( iteracion % 10 );
+                else if( tipo < 10 )
+                    sandbox.eliminarEnteroPorPosicion( TAMANIO_INICIAL );
+                else if( tipo < 95 )
+                    sandbox.contarApariciones( iteracion % 10 );
+                else
+                    sandbox.getCopiaEnteros( );
+            } );
+
+            double sincronizado = MedicionConcurrente.operacionesPorSegundo( hilos, CALENTAMIENTO_MS, DURACION_MS, iteracion -> {
+                int tipo = iteracion % 100;
+                if( tipo < 5 )
+                    sincronizada.add( iteracion % 10 );
+                else if( tipo < 10 )
+                    eliminarExcedente( sincronizada );
+                else if( tipo < 95 )
+                    contarApariciones( sincronizada, iteracion % 10 );
+                else
+                    copiar( sincronizada );
+            } );
+
+            System.out.printf( "%2d hilos: StampedLock %,14.0f ops/s   synchronizedList %,14.0f ops/s%n", hilos, concurrente, sincronizado );
+        }
+    }
+
+    private static int contarApariciones( List<Integer> lista, int valor )
+    {
+        int contador = 0;
+        synchronized( lista )
+        {
+            for( int elemento : lista )
+            {
+                if( elemento == valor )
+                    contador++;
+            }
+        }
+        return contador;
+    }
+
+    private static void eliminarExcedente( List<Integer> lista )
+    {
+        synchronized( lista )
+        {
+            if( lista.size( ) > TAMANIO_INICIAL )
+                lista.remove( TAMANIO_INICIAL );
+        }
+    }
+
+    private static List<Integer> copiar( List<Integer> lista )
+    {
+        synchronized( lista )
+        {
+            return new ArrayList<Integer>( lista );
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import uniandes.dpoo.estructuras.logica.SandboxMapas;
+import uniandes.dpoo.estructuras.logica.SandboxMapasConcurrente;
+
+/**
+ * Compara SandboxMapasConcurrente (ConcurrentHashMap) con SandboxMapas protegido por un candado global, con 1 a 64 hilos.
+ *
+ * De cada 1000 operaciones, 600 agregan una cadena aleatoria, 300 eliminan una cadena aleatoria por su llave, 99 verifican que unas pocas cadenas estén entre los
+ * valores y 1 convierte las llaves a mayúsculas. Las cadenas salen de un universo de 2 * TAMANIO_INICIAL valores.
+ */
+public class BenchmarkSandboxMapasConcurrente
+{
+    private static final int TAMANIO_INICIAL = 10000;
+    private static final int[] HILOS = new int[]{ 1, 2, 4, 8, 16, 32, 64 };
+    private static final long CALENTAMIENTO_MS = 1000;
+    private static final long DURACION_MS = 2000;
+
+    public static void main( String[] args ) throws InterruptedException
+    {
+        for( int hilos : HILOS )
+        {
+            SandboxMapasConcurrente concurrente = new SandboxMapasConcurrente( );
+            SandboxMapas bloqueado = new SandboxMapas( );
+            for( int i = 0; i < TAMANIO_INICIAL; i++ )
+            {
+                String cadena = cadenaAleatoria( );
+                concurrente.agregarCadena( cadena );
+                bloqueado.agregarCadena( cadena );
+            }
+            Object candado = new Object( );
+
+            double sinCandado = MedicionConcurrente.operacionesPorSegundo( hilos, CALENTAMIENTO_MS, DURACION_MS, iteracion -> operar( concurrente, iteracion ) );
+            double conCandado = MedicionConcurrente.operacionesPorSegundo( hilos, CALENTAMIENTO_MS, DURACION_MS, iteracion -> {
+                synchronized( candado )
+                {
+                    operar( bloqueado, iteracion );
+                }
+            } );
+
+            System.out.printf( "%2d hilos: ConcurrentHashMap %,14.0f ops/s   HashMap con candado %,14.0f ops/s%n", hilos, sinCandado, conCandado );
+        }
+    }
+
+    private static String cadenaAleatoria( )
+    {
+        return "cadena-" + ThreadLocalRandom.current( ).nextInt( 2 * TAMANIO_INICIAL );
+    }
+
+    private static String llaveAleatoria( )
+    {
+        return new StringBuilder( cadenaAleatoria( ) ).reverse( ).toString( );
+    }
+
+    private static void operar( SandboxMapasConcurrente sandbox, int iteracion )
+    {
+        int tipo = iteracion % 1000;
+        if( tipo < 600 )
+            sandbox.agregarCadena( cadenaAleatoria( ) );
+        else if( tipo < 900 )
+            sandbox.eliminarCadenaConLLave( llaveAleatoria( ) );
+        else if( tipo < 999 )
+            sandbox.compararValores( new String[]{ cadenaAleatoria( ), cadenaAleatoria( ) } );
+        else
+            sandbox.volverMayusculas( );
+    }
+
+    private static void operar( SandboxMapas sandbox, int iteracion )
+    {
+        int tipo = iteracion % 1000;
+        if( tipo < 600 )
+            sandbox.agregarCadena( cadenaAleatoria( ) );
+        else if( tipo < 900 )
+            sandbox.eliminarCadenaConLLave( llaveAleatoria( ) );
+        else if( tipo < 999 )
+            sandbox.compararValores( new String[]{ cadenaAleatoria( ), cadenaAleatoria( ) } );
+        else
+            sandbox.volverMayusculas( );
+    }
+}
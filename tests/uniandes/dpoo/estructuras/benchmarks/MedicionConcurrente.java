@@ -0,0 +1,85 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Utilidad para medir el rendimiento de una operación ejecutada al mismo tiempo por varios hilos.
+ *
+ * Cada medición hace un calentamiento y luego cuenta cuántas veces se completó la operación durante un intervalo fijo.
+ */
+public final class MedicionConcurrente
+{
+    /**
+     * Una operación que se ejecuta repetidamente durante la medición
+     */
+    public interface Operacion
+    {
+        /**
+         * Ejecuta la operación una vez
+         * @param iteracion El número de la iteración dentro del hilo que la ejecuta
+         */
+        void ejecutar( int iteracion );
+    }
+
+    private MedicionConcurrente( )
+    {
+    }
+
+    /**
+     * Mide cuántas operaciones por segundo completan en total los hilos
+     * @param hilos La cantidad de hilos que ejecutan la operación
+     * @param calentamientoMs La duración del calentamiento, en milisegundos
+     * @param duracionMs La duración de la medición, en milisegundos
+     * @param operacion La operación que se mide
+     * @return La cantidad de operaciones por segundo
+     */
+    public static double operacionesPorSegundo( int hilos, long calentamientoMs, long duracionMs, Operacion operacion ) throws InterruptedException
+    {
+        ejecutar( hilos, calentamientoMs, operacion );
+        long operaciones = ejecutar( hilos, duracionMs, operacion );
+        return operaciones * 1000.0 / duracionMs;
+    }
+
+    private static long ejecutar( int hilos, long duracionMs, Operacion operacion ) throws InterruptedException
+    {
+        AtomicBoolean detener = new AtomicBoolean( false );
+        LongAdder total = new LongAdder( );
+        CountDownLatch listos = new CountDownLatch( hilos );
+        CountDownLatch inicio = new CountDownLatch( 1 );
+        Thread[] trabajadores = new Thread[hilos];
+
+        for( int h = 0; h < hilos; h++ )
+        {
+            trabajadores[ h ] = new Thread( ( ) -> {
+                listos.countDown( );
+                try
+                {
+                    inicio.await( );
+                }
+                catch( InterruptedException e )
+                {
+                    return;
+                }
+                int iteracion = 0;
+                while( !detener.get( ) )
+                {
+                    operacion.ejecutar( iteracion++ );
+                }
+                total.add( iteracion );
+            } );
+            trabajadores[ h ].start( );
+        }
+
+        listos.await( );
+        inicio.countDown( );
+        Thread.sleep( duracionMs );
+        detener.set( true );
+        for( Thread trabajador : trabajadores )
+        {
+            trabajador.join( );
+        }
+        return total.sum( );
+    }
+}
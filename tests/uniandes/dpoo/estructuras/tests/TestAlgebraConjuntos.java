@@ -0,0 +1,117 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.AlgebraConjuntos;
+import uniandes.dpoo.estructuras.logica.SandboxConjuntos;
+
+class TestAlgebraConjuntos
+{
+    private TreeSet<String> primero;
+    private TreeSet<String> segundo;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        primero = new TreeSet<String>( );
+        segundo = new TreeSet<String>( );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        primero = null;
+        segundo = null;
+    }
+
+    private void llenar( int cantidadPrimero, int cantidadSegundo, int universo )
+    {
+        Random aleatorio = new Random( 41 );
+        for( int i = 0; i < cantidadPrimero; i++ )
+            primero.add( "c" + aleatorio.nextInt( universo ) );
+        for( int i = 0; i < cantidadSegundo; i++ )
+            segundo.add( "c" + aleatorio.nextInt( universo ) );
+    }
+
+    private void revisarOperaciones( )
+    {
+        String[] a = primero.toArray( new String[0] );
+        String[] b = segundo.toArray( new String[0] );
+
+        TreeSet<String> union = new TreeSet<String>( primero );
+        union.addAll( segundo );
+        TreeSet<String> interseccion = new TreeSet<String>( primero );
+        interseccion.retainAll( segundo );
+        TreeSet<String> diferencia = new TreeSet<String>( primero );
+        diferencia.removeAll( segundo );
+        TreeSet<String> simetrica = new TreeSet<String>( union );
+        simetrica.removeAll( interseccion );
+
+        assertArrayEquals( union.toArray( ), AlgebraConjuntos.unir( a, b ), "La unión no es correcta" );
+        assertArrayEquals( interseccion.toArray( ), AlgebraConjuntos.intersectar( a, b ), "La intersección no es correcta" );
+        assertArrayEquals( diferencia.toArray( ), AlgebraConjuntos.restar( a, b ), "La diferencia no es correcta" );
+        assertArrayEquals( simetrica.toArray( ), AlgebraConjuntos.diferenciaSimetrica( a, b ), "La diferencia simétrica no es correcta" );
+    }
+
+    @Test
+    void testConjuntosPequenios( )
+    {
+        revisarOperaciones( );
+        primero.addAll( Arrays.asList( "a", "b", "d" ) );
+        revisarOperaciones( );
+        segundo.addAll( Arrays.asList( "b", "c", "d", "e" ) );
+        revisarOperaciones( );
+    }
+
+    @Test
+    void testConjuntosGrandesEnParalelo( )
+    {
+        llenar( 60000, 20000, 100000 );
+        revisarOperaciones( );
+    }
+
+    @Test
+    void testConjuntosDesbalanceados( )
+    {
+        llenar( 50, 40000, 60000 );
+        revisarOperaciones( );
+        TreeSet<String> temporal = primero;
+        primero = segundo;
+        segundo = temporal;
+        revisarOperaciones( );
+    }
+
+    @Test
+    void testOperacionesDelSandbox( )
+    {
+        SandboxConjuntos a = new SandboxConjuntos( );
+        SandboxConjuntos b = new SandboxConjuntos( true );
+        for( String cadena : Arrays.asList( "a", "b", "d" ) )
+            a.agregarCadena( cadena );
+        for( String cadena : Arrays.asList( "b", "c", "d", "e" ) )
+            b.agregarCadena( cadena );
+
+        assertEquals( Arrays.asList( "a", "b", "c", "d", "e" ), a.unir( b ).getCadenasComoLista( ), "La unión no es correcta" );
+        assertEquals( Arrays.asList( "b", "d" ), a.intersectar( b ).getCadenasComoLista( ), "La intersección no es correcta" );
+        assertEquals( Arrays.asList( "a" ), a.restar( b ).getCadenasComoLista( ), "La diferencia no es correcta" );
+        assertEquals( Arrays.asList( "c", "e" ), b.restar( a ).getCadenasComoLista( ), "La diferencia no es correcta" );
+        assertEquals( Arrays.asList( "a", "c", "e" ), a.diferenciaSimetrica( b ).getCadenasComoLista( ), "La diferencia simétrica no es correcta" );
+
+        // El resultado es un conjunto independiente que puede modificarse
+        SandboxConjuntos union = a.unir( b );
+        union.agregarCadena( "f" );
+        union.eliminarPrimera( );
+        assertEquals( new ArrayList<String>( Arrays.asList( "b", "c", "d", "e", "f" ) ), union.getCadenasComoLista( ), "El resultado no se modificó correctamente" );
+        assertEquals( 3, a.getCantidadCadenas( ), "Los conjuntos originales no deberían cambiar" );
+    }
+}
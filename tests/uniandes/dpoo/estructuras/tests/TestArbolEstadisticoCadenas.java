@@ -0,0 +1,115 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ArbolEstadisticoCadenas;
+import uniandes.dpoo.estructuras.logica.SandboxConjuntos;
+
+class TestArbolEstadisticoCadenas
+{
+    private ArbolEstadisticoCadenas arbol;
+    private TreeSet<String> esperado;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        arbol = new ArbolEstadisticoCadenas( );
+        esperado = new TreeSet<String>( );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        arbol = null;
+        esperado = null;
+    }
+
+    private void revisar( )
+    {
+        assertEquals( esperado.size( ), arbol.getTamanio( ), "El tamaño no es el esperado" );
+        List<String> ordenadas = new ArrayList<String>( esperado );
+        for( int i = 0; i < ordenadas.size( ); i++ )
+        {
+            assertEquals( ordenadas.get( i ), arbol.getPorPosicion( i ), "La cadena en la posición " + i + " no es la esperada" );
+            assertEquals( i, arbol.rango( ordenadas.get( i ) ), "El rango de '" + ordenadas.get( i ) + "' no es el esperado" );
+        }
+    }
+
+    @Test
+    void testOperacionesAleatorias( )
+    {
+        Random aleatorio = new Random( 40 );
+        for( int i = 0; i < 3000; i++ )
+        {
+            String cadena = Integer.toString( aleatorio.nextInt( 500 ), 36 );
+            if( aleatorio.nextInt( 3 ) == 0 )
+                assertEquals( esperado.remove( cadena ), arbol.eliminar( cadena ), "El resultado de eliminar '" + cadena + "' no es el esperado" );
+            else
+                assertEquals( esperado.add( cadena ), arbol.agregar( cadena ), "El resultado de agregar '" + cadena + "' no es el esperado" );
+        }
+        revisar( );
+
+        for( int i = 0; i < 200; i++ )
+        {
+            String desde = Integer.toString( aleatorio.nextInt( 500 ), 36 );
+            String hasta = Integer.toString( aleatorio.nextInt( 500 ), 36 );
+            int cuenta = desde.compareTo( hasta ) < 0 ? esperado.subSet( desde, hasta ).size( ) : 0;
+            assertEquals( cuenta, arbol.contarEntre( desde, hasta ), "La cantidad entre '" + desde + "' y '" + hasta + "' no es la esperada" );
+            assertEquals( esperado.headSet( desde ).size( ), arbol.rango( desde ), "El rango de '" + desde + "' no es el esperado" );
+        }
+    }
+
+    @Test
+    void testConstruccionOrdenada( )
+    {
+        for( int i = 0; i < 1000; i++ )
+        {
+            esperado.add( "c" + i );
+        }
+        arbol = new ArbolEstadisticoCadenas( esperado );
+        revisar( );
+        arbol.agregar( "b" );
+        arbol.eliminar( "c500" );
+        esperado.add( "b" );
+        esperado.remove( "c500" );
+        revisar( );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> arbol.getPorPosicion( esperado.size( ) ) );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> arbol.getPorPosicion( -1 ) );
+    }
+
+    @Test
+    void testConsultasDelSandbox( )
+    {
+        for( boolean concurrente : new boolean[]{ false, true } )
+        {
+            SandboxConjuntos sandbox = new SandboxConjuntos( concurrente );
+            for( String cadena : Arrays.asList( "e", "d", "c", "B", "a" ) )
+            {
+                sandbox.agregarCadena( cadena );
+            }
+            assertEquals( 2, sandbox.getRango( "c" ), "El rango de 'c' no es el esperado" );
+            assertEquals( 3, sandbox.contarEntre( "a", "e" ), "La cantidad entre 'a' y 'e' no es la esperada" );
+            assertEquals( "B", sandbox.getPorPosicion( 0 ), "La primera posición no es la esperada" );
+
+            sandbox.eliminarPrimera( );
+            sandbox.agregarCadena( "bb" );
+            assertEquals( "bb", sandbox.getPorPosicion( 1 ), "El índice no se actualizó con los cambios" );
+            assertEquals( 5, sandbox.contarEntre( "a", "zz" ), "El índice no se actualizó con los cambios" );
+
+            sandbox.volverMayusculas( );
+            assertEquals( 3, sandbox.getRango( "D" ), "El índice no se reconstruyó después de volver mayúsculas" );
+            assertThrows( IndexOutOfBoundsException.class, ( ) -> sandbox.getPorPosicion( 5 ) );
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ArchivoCadenas;
+import uniandes.dpoo.estructuras.logica.ConjuntoCadenasCompacto;
+import uniandes.dpoo.estructuras.logica.SandboxConjuntos;
+import uniandes.dpoo.estructuras.logica.VistaConjuntoCompacto;
+
+class TestArchivoCadenas
+{
+    private Path archivo;
+    private TreeSet<String> esperado;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        archivo = Files.createTempFile( "cadenas", ".tcad" );
+        esperado = new TreeSet<String>( );
+        Random aleatorio = new Random( 42 );
+        for( int i = 0; i < 2000; i++ )
+        {
+            esperado.add( "k" + Integer.toString( aleatorio.nextInt( 100000 ), 36 ) );
+        }
+    }
+
+    @AfterEach
+    void reset( ) throws IOException
+    {
+        Files.deleteIfExists( archivo );
+        archivo = null;
+        esperado = null;
+    }
+
+    @Test
+    void testGuardarYAbrir( ) throws IOException
+    {
+        SandboxConjuntos original = new SandboxConjuntos( );
+        for( String cadena : esperado )
+        {
+            original.agregarCadena( cadena );
+        }
+        original.guardar( archivo );
+
+        SandboxConjuntos abierto = SandboxConjuntos.abrir( archivo );
+        assertEquals( esperado.size( ), abierto.getCantidadCadenas( ), "La cantidad de cadenas no es correcta" );
+        assertEquals( esperado.first( ), abierto.getPrimera( ), "La primera cadena no es correcta" );
+        assertEquals( esperado.last( ), abierto.getUltima( ), "La última cadena no es correcta" );
+        assertEquals( new ArrayList<String>( esperado.tailSet( "kb" ) ), new ArrayList<String>( abierto.getSiguientes( "kb" ) ), "Los siguientes no son correctos" );
+        assertEquals( new ArrayList<String>( esperado.descendingSet( ) ), abierto.getCadenasComoListaInvertida( ), "La lista invertida no es correcta" );
+        assertTrue( abierto.compararElementos( esperado.toArray( new String[0] ) ), "Todas las cadenas deberían estar en el conjunto abierto" );
+
+        // La primera modificación copia las cadenas; el archivo no cambia
+        abierto.eliminarPrimera( );
+        abierto.agregarCadena( "nueva" );
+        assertEquals( esperado.size( ), abierto.getCantidadCadenas( ), "La cantidad de cadenas después de modificar no es correcta" );
+        SandboxConjuntos otraVez = SandboxConjuntos.abrir( archivo );
+        assertEquals( esperado.first( ), otraVez.getPrimera( ), "El archivo no debería cambiar al modificar el conjunto" );
+        assertFalse( otraVez.compararElementos( new String[]{ "nueva" } ), "El archivo no debería cambiar al modificar el conjunto" );
+    }
+
+    @Test
+    void testGuardarSustitutosSinPareja( ) throws IOException
+    {
+        SandboxConjuntos original = new SandboxConjuntos( );
+        original.agregarCadena( "a\uD800" );
+        original.agregarCadena( "b\uDFFFc" );
+        original.agregarCadena( "c\uD83D\uDE00" );
+        original.guardar( archivo );
+
+        SandboxConjuntos abierto = SandboxConjuntos.abrir( archivo );
+        assertEquals( original.getCadenasComoLista( ), abierto.getCadenasComoLista( ), "Las cadenas con sustitutos no se recuperaron exactamente" );
+        assertTrue( abierto.compararElementos( new String[]{ "a\uD800", "b\uDFFFc" } ), "Las cadenas con sustitutos sin pareja deberían estar en el conjunto abierto" );
+    }
+
+    @Test
+    void testConjuntoVacio( ) throws IOException
+    {
+        new SandboxConjuntos( ).guardar( archivo );
+        SandboxConjuntos abierto = SandboxConjuntos.abrir( archivo );
+        assertEquals( 0, abierto.getCantidadCadenas( ), "El conjunto debería estar vacío" );
+        assertNull( abierto.getPrimera( ), "La primera cadena de un conjunto vacío debería ser null" );
+        assertNull( abierto.getUltima( ), "La última cadena de un conjunto vacío debería ser null" );
+        abierto.eliminarPrimera( );
+        abierto.agregarCadena( "a" );
+        assertEquals( Arrays.asList( "a" ), abierto.getCadenasComoLista( ), "El conjunto abierto debería poder modificarse" );
+    }
+
+    @Test
+    void testArchivoInvalido( ) throws IOException
+    {
+        Files.write( archivo, new byte[]{ 1, 2, 3, 4, 5, 6, 7, 8, 9 } );
+        assertThrows( IOException.class, ( ) -> ArchivoCadenas.abrir( archivo ) );
+    }
+
+    @Test
+    void testVistaNavegable( )
+    {
+        NavigableSet<String> vista = new VistaConjuntoCompacto( ConjuntoCadenasCompacto.desde( esperado ) );
+        List<String> sondas = new ArrayList<String>( Arrays.asList( "", "k", "k0", "kzzzz", "z", esperado.first( ), esperado.last( ) ) );
+        Iterator<String> iterador = esperado.iterator( );
+        for( int i = 0; i < 50 && iterador.hasNext( ); i++ )
+        {
+            sondas.add( iterador.next( ) );
+        }
+        for( String sonda : sondas )
+        {
+            assertEquals( esperado.ceiling( sonda ), vista.ceiling( sonda ), "ceiling('" + sonda + "') no es correcto" );
+            assertEquals( esperado.higher( sonda ), vista.higher( sonda ), "higher('" + sonda + "') no es correcto" );
+            assertEquals( esperado.floor( sonda ), vista.floor( sonda ), "floor('" + sonda + "') no es correcto" );
+            assertEquals( esperado.lower( sonda ), vista.lower( sonda ), "lower('" + sonda + "') no es correcto" );
+            assertEquals( esperado.headSet( sonda, true ), vista.headSet( sonda, true ), "headSet('" + sonda + "') no es correcto" );
+            assertEquals( esperado.tailSet( sonda, false ), vista.tailSet( sonda, false ), "tailSet('" + sonda + "') no es correcto" );
+        }
+
+        NavigableSet<String> sub = vista.subSet( "k1", true, "k5", false );
+        NavigableSet<String> subEsperado = esperado.subSet( "k1", true, "k5", false );
+        assertEquals( new ArrayList<String>( subEsperado ), new ArrayList<String>( sub ), "El sub-conjunto no es correcto" );
+        assertEquals( subEsperado.first( ), sub.first( ), "El primero del sub-conjunto no es correcto" );
+        assertEquals( subEsperado.last( ), sub.last( ), "El último del sub-conjunto no es correcto" );
+        assertEquals( subEsperado.ceiling( "k0" ), sub.ceiling( "k0" ), "ceiling fuera del sub-conjunto no es correcto" );
+        assertNull( sub.higher( "k5" ), "higher después del sub-conjunto debería ser null" );
+
+        List<String> descendente = new ArrayList<String>( );
+        sub.descendingIterator( ).forEachRemaining( descendente::add );
+        assertEquals( new ArrayList<String>( subEsperado.descendingSet( ) ), descendente, "El recorrido descendente no es correcto" );
+
+        assertThrows( UnsupportedOperationException.class, ( ) -> vista.add( "x" ) );
+        assertThrows( UnsupportedOperationException.class, ( ) -> vista.pollFirst( ) );
+    }
+}
@@ -0,0 +1,116 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.CargaMasiva;
+import uniandes.dpoo.estructuras.logica.SandboxConjuntos;
+import uniandes.dpoo.estructuras.logica.SandboxMapas;
+
+class TestCargaMasiva
+{
+    private static final int CANTIDAD = 50000;
+
+    private List<Object> objetos;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        // Cada número aparece dos veces para que haya cadenas repetidas
+        objetos = new LinkedList<Object>( );
+        for( int i = 0; i < CANTIDAD; i++ )
+        {
+            objetos.add( ( i * 7919 ) % ( CANTIDAD / 2 ) );
+        }
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        objetos = null;
+    }
+
+    @Test
+    void testConvertirCadenas( )
+    {
+        String[] cadenas = CargaMasiva.convertirCadenas( objetos );
+
+        assertEquals( CANTIDAD, cadenas.length, "La cantidad de cadenas no es correcta" );
+        Iterator<Object> iterador = objetos.iterator( );
+        for( String cadena : cadenas )
+        {
+            assertEquals( iterador.next( ).toString( ), cadena, "Las cadenas no están en el orden de los objetos" );
+        }
+    }
+
+    @Test
+    void testConstruirArbol( )
+    {
+        TreeSet<String> arbol = CargaMasiva.construirArbol( CargaMasiva.convertirCadenas( objetos ) );
+        TreeSet<String> esperado = new TreeSet<String>( );
+        for( Object objeto : objetos )
+        {
+            esperado.add( objeto.toString( ) );
+        }
+
+        assertEquals( esperado, arbol, "El árbol no tiene las cadenas esperadas" );
+        assertEquals( new ArrayList<String>( esperado ), new ArrayList<String>( arbol ), "El árbol no está ordenado" );
+        assertTrue( arbol.add( "nueva" ), "El árbol construido debería poder modificarse" );
+    }
+
+    @Test
+    void testReiniciarSandboxes( )
+    {
+        SandboxConjuntos conjuntos = new SandboxConjuntos( );
+        conjuntos.reiniciarConjuntoCadenas( objetos );
+        assertEquals( CANTIDAD / 2, conjuntos.getCantidadCadenas( ), "La cantidad de cadenas del conjunto no es correcta" );
+
+        SandboxMapas mapas = new SandboxMapas( );
+        mapas.reiniciarMapaCadenas( objetos );
+        assertEquals( CANTIDAD / 2, mapas.getCantidadCadenasDiferentes( ), "La cantidad de cadenas del mapa no es correcta" );
+
+        Map<String, String> mapa = CargaMasiva.construirMapa( new String[]{ "a", "b", "a" } );
+        assertEquals( 2, mapa.size( ), "El mapa no tiene las cadenas esperadas" );
+        assertEquals( "b", mapa.get( "b" ), "Cada cadena debería estar asociada a sí misma" );
+    }
+
+    @Test
+    void testTransformar( )
+    {
+        TreeSet<String> original = CargaMasiva.construirArbol( CargaMasiva.convertirCadenas( objetos ) );
+        TreeSet<String> transformado = CargaMasiva.construirArbol( CargaMasiva.transformarCadenas( original, cadena -> cadena.substring( 0, Math.min( 3, cadena.length( ) ) ) ) );
+
+        TreeSet<String> esperado = new TreeSet<String>( );
+        for( String cadena : original )
+        {
+            esperado.add( cadena.substring( 0, Math.min( 3, cadena.length( ) ) ) );
+        }
+        assertEquals( new ArrayList<String>( esperado ), new ArrayList<String>( transformado ), "El árbol transformado no tiene las cadenas esperadas" );
+        assertEquals( CANTIDAD / 2, original.size( ), "El árbol original no debería cambiar" );
+    }
+
+    @Test
+    void testConstruirListaSaltos( )
+    {
+        TreeSet<String> arbol = CargaMasiva.construirArbol( CargaMasiva.convertirCadenas( objetos ) );
+        String[] ordenadas = arbol.toArray( new String[0] );
+        ConcurrentSkipListSet<String> lista = CargaMasiva.construirListaSaltos( ordenadas, ordenadas.length );
+        assertEquals( new ArrayList<String>( arbol ), new ArrayList<String>( lista ), "La lista de saltos no tiene las cadenas esperadas" );
+
+        SandboxConjuntos concurrente = new SandboxConjuntos( true );
+        concurrente.reiniciarConjuntoCadenas( objetos );
+        assertEquals( new ArrayList<String>( arbol ), concurrente.getCadenasComoLista( ), "El conjunto concurrente no se reinició correctamente" );
+    }
+}
@@ -0,0 +1,159 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ConjuntoCadenasCompacto;
+import uniandes.dpoo.estructuras.logica.SandboxConjuntos;
+
+class TestConjuntoCadenasCompacto
+{
+    private TreeSet<String> esperado;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        esperado = new TreeSet<String>( );
+        Random aleatorio = new Random( 37 );
+        while( esperado.size( ) < 1000 )
+        {
+            int largo = aleatorio.nextInt( 12 );
+            StringBuilder cadena = new StringBuilder( "prefijo-" );
+            for( int i = 0; i < largo; i++ )
+            {
+                cadena.append( (char) ( 'a' + aleatorio.nextInt( 4 ) ) );
+            }
+            esperado.add( cadena.toString( ) );
+        }
+        esperado.add( "" );
+        esperado.add( "ñandú" );
+        esperado.add( "árbol" );
+        esperado.add( "😀 cara" );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        esperado = null;
+    }
+
+    @Test
+    void testRecorridoYPosiciones( )
+    {
+        ConjuntoCadenasCompacto compacto = ConjuntoCadenasCompacto.desde( esperado );
+        List<String> ordenadas = new ArrayList<String>( esperado );
+
+        assertEquals( ordenadas.size( ), compacto.size( ), "El tamaño no es el esperado." );
+        assertEquals( ordenadas, new ArrayList<String>( compacto ), "El recorrido no tiene las cadenas en orden." );
+        for( int i = 0; i < ordenadas.size( ); i++ )
+        {
+            assertEquals( ordenadas.get( i ), compacto.get( i ), "La cadena en la posición " + i + " no es la esperada." );
+        }
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> compacto.get( ordenadas.size( ) ) );
+    }
+
+    @Test
+    void testBuscar( )
+    {
+        ConjuntoCadenasCompacto compacto = ConjuntoCadenasCompacto.desde( esperado );
+        List<String> ordenadas = new ArrayList<String>( esperado );
+
+        for( String cadena : ordenadas )
+        {
+            assertEquals( Collections.binarySearch( ordenadas, cadena ), compacto.buscar( cadena ), "No se encontró la cadena '" + cadena + "'." );
+            assertTrue( compacto.contains( cadena ), "La cadena '" + cadena + "' debería estar en el conjunto." );
+        }
+        for( String ausente : Arrays.asList( "a", "prefijo-", "prefijo-aaaaaaaaaaaaa", "prefijo-e", "zzz", "ñ" ) )
+        {
+            if( !esperado.contains( ausente ) )
+            {
+                assertEquals( Collections.binarySearch( ordenadas, ausente ), compacto.buscar( ausente ), "La posición de inserción de '" + ausente + "' no es la esperada." );
+                assertFalse( compacto.contains( ausente ), "La cadena '" + ausente + "' no debería estar en el conjunto." );
+            }
+        }
+    }
+
+    @Test
+    void testIteradorDeRango( )
+    {
+        ConjuntoCadenasCompacto compacto = ConjuntoCadenasCompacto.desde( esperado );
+        List<String> ordenadas = new ArrayList<String>( esperado );
+
+        int[][] rangos = { { 0, 0 }, { 0, 1 }, { 15, 17 }, { 16, 48 }, { 3, 999 }, { 990, ordenadas.size( ) } };
+        for( int[] rango : rangos )
+        {
+            List<String> obtenidas = new ArrayList<String>( );
+            Iterator<String> iterador = compacto.iterador( rango[ 0 ], rango[ 1 ] );
+            while( iterador.hasNext( ) )
+            {
+                obtenidas.add( iterador.next( ) );
+            }
+            assertEquals( ordenadas.subList( rango[ 0 ], rango[ 1 ] ), obtenidas, "El rango [" + rango[ 0 ] + ", " + rango[ 1 ] + ") no es el esperado." );
+        }
+    }
+
+    @Test
+    void testBytesYValidaciones( )
+    {
+        ConjuntoCadenasCompacto compacto = ConjuntoCadenasCompacto.desde( esperado );
+        int tamanioCadenas = 0;
+        for( String cadena : esperado )
+        {
+            tamanioCadenas += cadena.length( );
+        }
+        assertTrue( compacto.getTamanioEnBytes( ) < tamanioCadenas, "La codificación por prefijos debería ocupar menos que los caracteres de las cadenas." );
+
+        ConjuntoCadenasCompacto vacio = ConjuntoCadenasCompacto.desde( new TreeSet<String>( ) );
+        assertEquals( 0, vacio.size( ), "El conjunto debería estar vacío." );
+        assertEquals( -1, vacio.buscar( "a" ), "La posición de inserción en un conjunto vacío debería ser 0." );
+
+        assertThrows( IllegalArgumentException.class, ( ) -> ConjuntoCadenasCompacto.desde( Arrays.asList( "b", "a" ) ) );
+        assertThrows( IllegalArgumentException.class, ( ) -> ConjuntoCadenasCompacto.desde( Arrays.asList( "a", "a" ) ) );
+        assertThrows( IllegalArgumentException.class, ( ) -> new ConjuntoCadenasCompacto( ByteBuffer.allocate( 12 ).putInt( 0, 5 ) ) );
+        assertThrows( UnsupportedOperationException.class, ( ) -> compacto.add( "nueva" ) );
+    }
+
+    @Test
+    void testSustitutosSinPareja( )
+    {
+        // Un String puede tener sustitutos sin pareja; UTF-8 estándar los reemplazaría por '?'
+        TreeSet<String> cadenas = new TreeSet<String>( Arrays.asList( "a\uD800", "a\uD800b", "a\uDC00", "b", "x\uD83D\uDE00", "x\uDE00\uD83D", "\uD83D" ) );
+        ConjuntoCadenasCompacto compacto = ConjuntoCadenasCompacto.desde( cadenas );
+        assertEquals( new ArrayList<String>( cadenas ), new ArrayList<String>( compacto ), "Las cadenas con sustitutos no se recuperaron exactamente." );
+        for( String cadena : cadenas )
+        {
+            assertTrue( compacto.contains( cadena ), "No se encontró una cadena con sustitutos en la posición " + cadenas.headSet( cadena ).size( ) + "." );
+        }
+        assertFalse( compacto.contains( "a?" ), "El sustituto no debería haberse reemplazado por '?'." );
+    }
+
+    @Test
+    void testCopiaCompactaDelSandbox( )
+    {
+        SandboxConjuntos sandbox = new SandboxConjuntos( );
+        for( String cadena : esperado )
+        {
+            sandbox.agregarCadena( cadena );
+        }
+        ConjuntoCadenasCompacto copia = sandbox.getCopiaCompacta( );
+        assertEquals( sandbox.getCadenasComoLista( ), new ArrayList<String>( copia ), "La copia no tiene las cadenas del conjunto." );
+
+        sandbox.agregarCadena( "nueva" );
+        assertFalse( copia.contains( "nueva" ), "La copia no debería cambiar cuando cambia el conjunto." );
+    }
+}
@@ -0,0 +1,90 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.EstimadorCardinalidad;
+import uniandes.dpoo.estructuras.logica.SandboxMapas;
+
+class TestEstimadorCardinalidad
+{
+    private EstimadorCardinalidad estimador;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        estimador = new EstimadorCardinalidad( );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        estimador = null;
+    }
+
+    private static void assertCercano( long esperado, long estimado, double error, String mensaje )
+    {
+        assertTrue( Math.abs( estimado - esperado ) <= 4 * error * esperado, mensaje + ": se esperaba cerca de " + esperado + " y se estimó " + estimado );
+    }
+
+    @Test
+    void testEstimacion( )
+    {
+        assertEquals( 0, estimador.estimar( ), "Un estimador vacío debería estimar 0" );
+        for( int i = 0; i < 200000; i++ )
+        {
+            estimador.agregar( "cadena-" + i );
+        }
+        assertCercano( 200000, estimador.estimar( ), estimador.getErrorRelativo( ), "La estimación está muy lejos de la cardinalidad" );
+    }
+
+    @Test
+    void testPocasCadenasYRepetidas( )
+    {
+        for( int repeticion = 0; repeticion < 50; repeticion++ )
+        {
+            for( int i = 0; i < 100; i++ )
+            {
+                estimador.agregar( "cadena-" + i );
+            }
+        }
+        assertCercano( 100, estimador.estimar( ), 0.02, "Las cadenas repetidas no deberían cambiar la estimación" );
+    }
+
+    @Test
+    void testUnir( )
+    {
+        EstimadorCardinalidad otro = new EstimadorCardinalidad( );
+        for( int i = 0; i < 60000; i++ )
+        {
+            estimador.agregar( "cadena-" + i );
+            otro.agregar( "cadena-" + ( i + 30000 ) );
+        }
+        estimador.unir( otro );
+        assertCercano( 90000, estimador.estimar( ), estimador.getErrorRelativo( ), "La unión no estima las cadenas de los dos estimadores" );
+
+        assertThrows( IllegalArgumentException.class, ( ) -> estimador.unir( new EstimadorCardinalidad( 10 ) ), "Los estimadores con otra precisión no se pueden unir" );
+        assertThrows( IllegalArgumentException.class, ( ) -> new EstimadorCardinalidad( 2 ), "La precisión es muy pequeña" );
+    }
+
+    @Test
+    void testEstimadorDeMapas( )
+    {
+        SandboxMapas uno = new SandboxMapas( );
+        SandboxMapas otro = new SandboxMapas( );
+        for( int i = 0; i < 3000; i++ )
+        {
+            uno.agregarCadena( "valor-" + i );
+            otro.agregarCadena( "valor-" + ( i + 1000 ) );
+        }
+        EstimadorCardinalidad union = uno.getEstimadorValores( 12 );
+        union.unir( otro.getEstimadorValores( 12 ) );
+        assertCercano( 4000, union.estimar( ), union.getErrorRelativo( ), "La estimación de los valores de los dos mapas no es correcta" );
+        assertEquals( 3000, uno.getCantidadCadenasDiferentes( ), "La cantidad exacta de valores diferentes no es correcta" );
+    }
+}
@@ -0,0 +1,112 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.FiltroBloom;
+import uniandes.dpoo.estructuras.logica.SandboxConjuntos;
+
+class TestFiltroBloom
+{
+    private List<String> cadenas;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        cadenas = new ArrayList<String>( );
+        for( int i = 0; i < 5000; i++ )
+        {
+            cadenas.add( "cadena-" + i );
+        }
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        cadenas = null;
+    }
+
+    @Test
+    void testSinFalsosNegativos( )
+    {
+        FiltroBloom filtro = new FiltroBloom( cadenas );
+        for( String cadena : cadenas )
+        {
+            assertTrue( filtro.puedeContener( cadena ), "El filtro no puede descartar una cadena agregada: " + cadena );
+        }
+        filtro.agregar( "nueva" );
+        assertTrue( filtro.puedeContener( "nueva" ), "El filtro no puede descartar una cadena agregada después" );
+    }
+
+    @Test
+    void testPocosFalsosPositivos( )
+    {
+        FiltroBloom filtro = new FiltroBloom( cadenas );
+        int falsosPositivos = 0;
+        for( int i = 0; i < 10000; i++ )
+        {
+            if( filtro.puedeContener( "otra-" + i ) )
+                falsosPositivos++;
+        }
+        assertTrue( falsosPositivos < 300, "Hay demasiados falsos positivos: " + falsosPositivos );
+    }
+
+    @Test
+    void testDesactualizado( )
+    {
+        FiltroBloom filtro = new FiltroBloom( cadenas );
+        assertFalse( filtro.estaDesactualizado( ), "Un filtro nuevo no debería estar desactualizado" );
+        for( int i = 0; i <= cadenas.size( ) / 2; i++ )
+        {
+            filtro.registrarEliminacion( );
+        }
+        assertTrue( filtro.estaDesactualizado( ), "El filtro debería estar desactualizado después de muchas eliminaciones" );
+
+        FiltroBloom lleno = new FiltroBloom( cadenas );
+        for( int i = 0; i <= cadenas.size( ); i++ )
+        {
+            lleno.agregar( "extra-" + i );
+        }
+        assertTrue( lleno.estaDesactualizado( ), "El filtro debería estar desactualizado después de agregar más cadenas de las esperadas" );
+    }
+
+    @Test
+    void testCompararElementosConCambios( )
+    {
+        SandboxConjuntos sandbox = new SandboxConjuntos( );
+        for( String cadena : cadenas )
+        {
+            sandbox.agregarCadena( cadena );
+        }
+        String[] todas = cadenas.toArray( new String[0] );
+        assertTrue( sandbox.compararElementos( todas ), "Todas las cadenas están en el conjunto" );
+        assertTrue( sandbox.compararElementos( new String[]{ "cadena-7", "cadena-7", "cadena-1" } ), "Las cadenas repetidas también están en el conjunto" );
+        assertTrue( sandbox.compararElementos( new String[0] ), "Un arreglo vacío siempre está contenido" );
+        assertFalse( sandbox.compararElementos( new String[]{ "cadena-1", "cadena-5000" } ), "Una de las cadenas no está en el conjunto" );
+
+        // Las cadenas eliminadas dejan sus bits en el filtro, pero el recorrido ordenado debe descartarlas
+        for( int i = 0; i < 4000; i++ )
+        {
+            sandbox.eliminarCadena( "cadena-" + i );
+        }
+        assertFalse( sandbox.compararElementos( todas ), "Las cadenas eliminadas ya no están en el conjunto" );
+        assertFalse( sandbox.compararElementos( new String[]{ "cadena-4500", "cadena-10" } ), "Una cadena eliminada no está en el conjunto" );
+        assertTrue( sandbox.compararElementos( new String[]{ "cadena-4999", "cadena-4000" } ), "Las cadenas restantes sí están en el conjunto" );
+
+        sandbox.agregarCadena( "cadena-10" );
+        assertTrue( sandbox.compararElementos( new String[]{ "cadena-4500", "cadena-10" } ), "Una cadena agregada de nuevo está en el conjunto" );
+
+        SandboxConjuntos concurrente = new SandboxConjuntos( true );
+        concurrente.agregarCadena( "b" );
+        concurrente.agregarCadena( "a" );
+        assertTrue( concurrente.compararElementos( new String[]{ "b", "a", "b" } ), "Las cadenas están en el conjunto concurrente" );
+        assertFalse( concurrente.compararElementos( new String[]{ "a", "c" } ), "Una cadena no está en el conjunto concurrente" );
+    }
+}
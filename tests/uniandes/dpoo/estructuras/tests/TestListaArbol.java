@@ -0,0 +1,110 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ListaArbol;
+import uniandes.dpoo.estructuras.logica.SandboxListas;
+
+class TestListaArbol
+{
+    private ListaArbol<Integer> lista;
+    private List<Integer> esperada;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        lista = new ListaArbol<Integer>( );
+        esperada = new ArrayList<Integer>( );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        lista = null;
+        esperada = null;
+    }
+
+    @Test
+    void testEdicionesAleatorias( )
+    {
+        Random aleatorio = new Random( 42 );
+        for( int i = 0; i < 20000; i++ )
+        {
+            int operacion = aleatorio.nextInt( 4 );
+            if( operacion < 2 || esperada.isEmpty( ) )
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) + 1 );
+                lista.add( posicion, i );
+                esperada.add( posicion, i );
+            }
+            else if( operacion == 2 )
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) );
+                assertEquals( esperada.remove( posicion ), lista.remove( posicion ), "No se eliminó el elemento esperado" );
+            }
+            else
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) );
+                assertEquals( esperada.set( posicion, -i ), lista.set( posicion, -i ), "No se reemplazó el elemento esperado" );
+            }
+        }
+        assertEquals( esperada, lista, "La lista no tiene los elementos esperados" );
+    }
+
+    @Test
+    void testAgregarTodosEnMedio( )
+    {
+        lista.addAll( Arrays.asList( 1, 2, 3, 4 ) );
+        lista.addAll( 2, Arrays.asList( 10, 11, 12 ) );
+        lista.addAll( 0, Arrays.asList( 0 ) );
+
+        assertEquals( Arrays.asList( 0, 1, 2, 10, 11, 12, 3, 4 ), lista, "La lista no tiene los elementos esperados" );
+    }
+
+    @Test
+    void testEliminarConIterador( )
+    {
+        for( int i = 0; i < 100; i++ )
+        {
+            lista.add( i );
+        }
+        Iterator<Integer> iterador = lista.iterator( );
+        while( iterador.hasNext( ) )
+        {
+            if( iterador.next( ) % 2 == 0 )
+                iterador.remove( );
+        }
+
+        assertEquals( 50, lista.size( ), "La cantidad de elementos no es correcta" );
+        for( int i = 0; i < lista.size( ); i++ )
+        {
+            assertEquals( 2 * i + 1, lista.get( i ), "El elemento en la posición no es el esperado" );
+        }
+    }
+
+    @Test
+    void testSandboxConArbol( )
+    {
+        SandboxListas sandbox = new SandboxListas( new ListaArbol<Integer>( ) );
+        sandbox.agregarEntero( 2 );
+        sandbox.insertarEntero( 1, -5 );
+        sandbox.insertarEntero( 3, 10 );
+        sandbox.eliminarEnteroPorPosicion( 0 );
+        assertTrue( sandbox.compararArregloEnteros( new int[]{ 2, 3 } ), "La lista de enteros no es la esperada" );
+
+        sandbox.reiniciarArregloEnteros( new double[]{ 1.5, 2.5 } );
+        sandbox.insertarEntero( 7, 1 );
+        assertTrue( sandbox.compararArregloEnteros( new int[]{ 1, 7, 2 } ), "La lista reiniciada no es la esperada" );
+    }
+}
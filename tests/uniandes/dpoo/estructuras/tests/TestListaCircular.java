@@ -0,0 +1,90 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ListaCircular;
+import uniandes.dpoo.estructuras.logica.SandboxListas;
+
+class TestListaCircular
+{
+    private ListaCircular<Integer> lista;
+    private List<Integer> esperada;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        lista = new ListaCircular<Integer>( );
+        esperada = new ArrayList<Integer>( );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        lista = null;
+        esperada = null;
+    }
+
+    @Test
+    void testExtremos( )
+    {
+        for( int i = 0; i < 1000; i++ )
+        {
+            lista.addFirst( i );
+            lista.addLast( -i );
+        }
+        assertEquals( 2000, lista.size( ), "La cantidad de elementos no es correcta" );
+        assertEquals( 999, lista.get( 0 ), "El primer elemento no es el esperado" );
+        assertEquals( -999, lista.get( 1999 ), "El último elemento no es el esperado" );
+
+        for( int i = 999; i >= 0; i-- )
+        {
+            assertEquals( i, lista.removeFirst( ), "No se eliminó el primer elemento esperado" );
+            assertEquals( -i, lista.removeLast( ), "No se eliminó el último elemento esperado" );
+        }
+        assertTrue( lista.isEmpty( ), "La lista debería estar vacía" );
+    }
+
+    @Test
+    void testEdicionesAleatorias( )
+    {
+        Random aleatorio = new Random( 7 );
+        for( int i = 0; i < 20000; i++ )
+        {
+            if( aleatorio.nextInt( 3 ) < 2 || esperada.isEmpty( ) )
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) + 1 );
+                lista.add( posicion, i );
+                esperada.add( posicion, i );
+            }
+            else
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) );
+                assertEquals( esperada.remove( posicion ), lista.remove( posicion ), "No se eliminó el elemento esperado" );
+            }
+        }
+        assertEquals( esperada, lista, "La lista no tiene los elementos esperados" );
+    }
+
+    @Test
+    void testSandboxConListaCircular( )
+    {
+        SandboxListas sandbox = new SandboxListas( new ListaCircular<Integer>( ) );
+        for( int i = 0; i < 5; i++ )
+        {
+            sandbox.insertarEntero( i, -1 );
+        }
+        sandbox.eliminarEnteroPorPosicion( 0 );
+        sandbox.insertarEntero( 9, 2 );
+
+        assertTrue( sandbox.compararArregloEnteros( new int[]{ 3, 2, 9, 1, 0 } ), "La lista de enteros no es la esperada" );
+    }
+}
@@ -0,0 +1,152 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ListaEnterosRangos;
+import uniandes.dpoo.estructuras.logica.SandboxListas;
+
+class TestListaEnterosRangos
+{
+    private ListaEnterosRangos lista;
+    private List<Integer> esperada;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        lista = new ListaEnterosRangos( );
+        esperada = new ArrayList<Integer>( );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        lista = null;
+        esperada = null;
+    }
+
+    @Test
+    void testConsultasConEdiciones( )
+    {
+        Random aleatorio = new Random( 11 );
+        for( int i = 0; i < 3000; i++ )
+        {
+            int operacion = aleatorio.nextInt( 4 );
+            int valor = aleatorio.nextInt( 2001 ) - 1000;
+            if( operacion < 2 || esperada.isEmpty( ) )
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) + 1 );
+                lista.add( posicion, valor );
+                esperada.add( posicion, valor );
+            }
+            else if( operacion == 2 )
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) );
+                assertEquals( esperada.remove( posicion ), lista.remove( posicion ), "No se eliminó el elemento esperado" );
+            }
+            else
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) );
+                lista.set( posicion, valor );
+                esperada.set( posicion, valor );
+            }
+
+            if( !esperada.isEmpty( ) )
+            {
+                int desde = aleatorio.nextInt( esperada.size( ) );
+                int hasta = desde + 1 + aleatorio.nextInt( esperada.size( ) - desde );
+                List<Integer> rango = esperada.subList( desde, hasta );
+                long suma = 0;
+                for( int entero : rango )
+                {
+                    suma += entero;
+                }
+                assertEquals( (int)Collections.min( rango ), lista.minimo( desde, hasta ), "El mínimo del rango no es correcto" );
+                assertEquals( (int)Collections.max( rango ), lista.maximo( desde, hasta ), "El máximo del rango no es correcto" );
+                assertEquals( suma, lista.suma( desde, hasta ), "La suma del rango no es correcta" );
+            }
+        }
+        assertEquals( esperada, lista, "La lista no tiene los elementos esperados" );
+    }
+
+    @Test
+    void testAgregarTodos( )
+    {
+        for( int i = 0; i < 5; i++ )
+        {
+            lista.add( i - 2 );
+            esperada.add( i - 2 );
+        }
+        for( int repeticion = 0; repeticion < 3; repeticion++ )
+        {
+            lista.addAll( lista );
+            esperada.addAll( esperada );
+        }
+        assertEquals( esperada, lista, "Agregar la lista a sí misma debería duplicarla" );
+        assertEquals( -2, lista.minimo( 20, 40 ), "El mínimo después de agregar no es correcto" );
+        assertEquals( 0, lista.suma( 0, lista.size( ) ), "La suma después de agregar no es correcta" );
+
+        assertThrows( NullPointerException.class, ( ) -> lista.addAll( Arrays.asList( 7, null, 8 ) ), "La lista no acepta elementos null" );
+        assertEquals( esperada, lista, "Un addAll fallido no debería cambiar la lista" );
+        assertEquals( 2, lista.maximo( 0, lista.size( ) ), "Un addAll fallido no debería cambiar el árbol" );
+    }
+
+    @Test
+    void testNullNoCambiaLaLista( )
+    {
+        lista.addAll( Arrays.asList( 1, 2, 3, 4 ) );
+        assertThrows( NullPointerException.class, ( ) -> lista.add( 1, null ), "La lista no acepta elementos null" );
+        assertEquals( Arrays.asList( 1, 2, 3, 4 ), lista, "Un add fallido no debería cambiar la lista" );
+        assertEquals( 10, lista.suma( 0, 4 ), "Un add fallido no debería cambiar la suma" );
+        assertEquals( 1, lista.minimo( 0, 4 ), "Un add fallido no debería cambiar el mínimo" );
+        assertEquals( 4, lista.maximo( 0, 4 ), "Un add fallido no debería cambiar el máximo" );
+
+        lista.clear( );
+        lista.addAll( Arrays.asList( 5, -3, 7, 1 ) );
+        assertThrows( NullPointerException.class, ( ) -> lista.replaceAll( entero -> entero == 7 ? null : entero * 10 ), "La lista no acepta elementos null" );
+        assertEquals( Arrays.asList( 5, -3, 7, 1 ), lista, "Un replaceAll fallido no debería cambiar la lista" );
+        assertEquals( 10, lista.suma( 0, 4 ), "Un replaceAll fallido no debería cambiar la suma" );
+        assertEquals( -3, lista.minimo( 0, 4 ), "Un replaceAll fallido no debería cambiar el mínimo" );
+        assertEquals( 7, lista.maximo( 0, 4 ), "Un replaceAll fallido no debería cambiar el máximo" );
+
+        lista.replaceAll( entero -> entero * 10 );
+        assertEquals( 100, lista.suma( 0, 4 ), "La suma después de reemplazar no es correcta" );
+        assertEquals( 70, lista.maximo( 0, 4 ), "El máximo después de reemplazar no es correcto" );
+    }
+
+    @Test
+    void testSandboxConRangos( )
+    {
+        SandboxListas sandbox = new SandboxListas( new ListaEnterosRangos( ) );
+        int[] valores = new int[]{ 5, -3, 8, -1, 2 };
+        for( int valor : valores )
+        {
+            sandbox.agregarEntero( valor );
+        }
+        assertEquals( -3, sandbox.getMinimoEnRango( 0, 5 ), "El mínimo no es correcto" );
+        assertEquals( 8, sandbox.getMaximoEnRango( 1, 4 ), "El máximo no es correcto" );
+        assertEquals( 11, sandbox.getSumaEnRango( 0, 5 ), "La suma no es correcta" );
+
+        sandbox.volverPositivos( );
+        sandbox.insertarEntero( -7, -1 );
+        sandbox.eliminarEnteroPorPosicion( 3 );
+        assertEquals( -7, sandbox.getMinimoEnRango( 0, 5 ), "El mínimo después de editar no es correcto" );
+        assertEquals( 11, sandbox.getSumaEnRango( 1, 5 ), "La suma después de editar no es correcta" );
+
+        SandboxListas porDefecto = new SandboxListas( );
+        porDefecto.agregarEntero( 4 );
+        porDefecto.agregarEntero( -6 );
+        assertEquals( -6, porDefecto.getMinimoEnRango( 0, 2 ), "El mínimo con la lista por defecto no es correcto" );
+        assertEquals( -2, porDefecto.getSumaEnRango( 0, 2 ), "La suma con la lista por defecto no es correcta" );
+    }
+}
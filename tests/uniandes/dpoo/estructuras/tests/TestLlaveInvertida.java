@@ -0,0 +1,62 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.LlaveInvertida;
+
+class TestLlaveInvertida
+{
+    private static String invertir( String cadena )
+    {
+        return new StringBuilder( cadena ).reverse( ).toString( );
+    }
+
+    @Test
+    void testVistaInvertida( )
+    {
+        LlaveInvertida llave = LlaveInvertida.invertir( "abc" );
+        assertEquals( "cba", llave.toString( ), "La llave no representa la cadena invertida" );
+        assertEquals( 'c', llave.charAt( 0 ), "El primer carácter de la vista no es el correcto" );
+        assertEquals( "cba".hashCode( ), llave.hashCode( ), "El hash debería ser el de la cadena invertida" );
+        assertEquals( LlaveInvertida.de( "cba" ), llave, "La vista debería ser igual a la llave de la cadena invertida" );
+        assertEquals( llave, LlaveInvertida.de( "cba" ), "La igualdad debería ser simétrica" );
+        assertFalse( llave.equals( LlaveInvertida.de( "abc" ) ), "La vista no debería ser igual a la cadena sin invertir" );
+        assertEquals( "ba", llave.subSequence( 1, 3 ).toString( ), "La subsecuencia no es la correcta" );
+    }
+
+    @Test
+    void testParesSustitutos( )
+    {
+        String cadena = "a😀b";
+        assertEquals( invertir( cadena ), LlaveInvertida.invertir( cadena ).toString( ), "Los pares sustitutos deberían conservar su orden" );
+        assertEquals( LlaveInvertida.de( invertir( cadena ) ), LlaveInvertida.invertir( cadena ), "La llave no es igual a la cadena invertida" );
+    }
+
+    @Test
+    void testComoLlaveDeMapa( )
+    {
+        Random aleatorio = new Random( 7 );
+        Map<LlaveInvertida, String> mapa = new HashMap<LlaveInvertida, String>( );
+        for( int i = 0; i < 2000; i++ )
+        {
+            String cadena = Integer.toString( aleatorio.nextInt( 500 ), 36 );
+            mapa.put( LlaveInvertida.invertir( cadena ), cadena );
+            String otra = Integer.toString( aleatorio.nextInt( 500 ), 36 );
+            assertEquals( Integer.signum( invertir( cadena ).compareTo( invertir( otra ) ) ),
+                    Integer.signum( LlaveInvertida.invertir( cadena ).compareTo( LlaveInvertida.de( invertir( otra ) ) ) ), "El orden debería ser el de String" );
+        }
+        for( Map.Entry<LlaveInvertida, String> entrada : mapa.entrySet( ) )
+        {
+            assertTrue( mapa.containsKey( LlaveInvertida.de( invertir( entrada.getValue( ) ) ) ), "No se encontró la llave buscándola como String" );
+            assertEquals( invertir( entrada.getValue( ) ), entrada.getKey( ).toString( ), "La llave no corresponde al valor" );
+        }
+    }
+}
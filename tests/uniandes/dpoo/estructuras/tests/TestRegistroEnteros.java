@@ -0,0 +1,116 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.RegistroEnteros;
+import uniandes.dpoo.estructuras.logica.SandboxListas;
+
+class TestRegistroEnteros
+{
+    private RegistroEnteros registro;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        registro = new RegistroEnteros( );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        registro = null;
+    }
+
+    @Test
+    void testAgregarSecuencial( )
+    {
+        for( int i = 0; i < 50000; i++ )
+        {
+            registro.agregar( i );
+        }
+        registro.agregarTodos( new int[]{ -1, -2, -3 } );
+
+        assertEquals( 50003, registro.getTamanioPublicado( ), "La cantidad de valores publicados no es correcta" );
+        assertEquals( 20000, registro.get( 20000 ), "El valor en la posición no es el esperado" );
+        assertEquals( -3, registro.get( 50002 ), "El valor en la posición no es el esperado" );
+        assertEquals( 3, registro.getPublicadosDesde( 50000 ).length, "La cantidad de valores copiados no es correcta" );
+    }
+
+    @Test
+    void testAgregarEnSandbox( )
+    {
+        SandboxListas sandbox = new SandboxListas( );
+        registro.agregarTodos( new int[]{ 1, 2, 3 } );
+        long posicion = sandbox.agregarEnteros( registro, 0 );
+        registro.agregar( 4 );
+        posicion = sandbox.agregarEnteros( registro, posicion );
+
+        assertEquals( 4, posicion, "La posición retornada no es correcta" );
+        assertTrue( sandbox.compararArregloEnteros( new int[]{ 1, 2, 3, 4 } ), "No se agregaron los valores publicados" );
+    }
+
+    @Test
+    void testProductoresConcurrentes( ) throws Exception
+    {
+        final int hilos = 8;
+        final int porHilo = 100000;
+        AtomicBoolean prefijoInvalido = new AtomicBoolean( false );
+        AtomicBoolean terminar = new AtomicBoolean( false );
+
+        // Los valores agregados nunca son 0, así que un 0 dentro del prefijo publicado sería un valor leído antes de ser escrito
+        Thread lector = new Thread( ( ) -> {
+            while( !terminar.get( ) )
+            {
+                for( int valor : registro.getPublicadosDesde( 0 ) )
+                {
+                    if( valor == 0 )
+                        prefijoInvalido.set( true );
+                }
+            }
+        } );
+        List<Thread> productores = new ArrayList<Thread>( );
+        for( int h = 0; h < hilos; h++ )
+        {
+            final int base = h * porHilo;
+            productores.add( new Thread( ( ) -> {
+                for( int i = 1; i <= porHilo; i++ )
+                {
+                    registro.agregar( base + i );
+                }
+            } ) );
+        }
+
+        lector.start( );
+        for( Thread productor : productores )
+        {
+            productor.start( );
+        }
+        for( Thread productor : productores )
+        {
+            productor.join( );
+        }
+        terminar.set( true );
+        lector.join( );
+
+        assertFalse( prefijoInvalido.get( ), "Un lector vio una posición publicada antes de que se escribiera su valor" );
+        int[] valores = registro.getPublicadosDesde( 0 );
+        assertEquals( hilos * porHilo, valores.length, "Se perdieron valores" );
+
+        boolean[] vistos = new boolean[hilos * porHilo + 1];
+        for( int valor : valores )
+        {
+            assertFalse( vistos[ valor ], "El valor " + valor + " aparece más de una vez" );
+            vistos[ valor ] = true;
+        }
+    }
+}
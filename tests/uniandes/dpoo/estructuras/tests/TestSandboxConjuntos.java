@@ -354,4 +354,32 @@ class TestSandboxConjuntos
         assertFalse( sencillo.compararElementos( cadenasMayusculasOrdenadas ), "No comparó correctamente los arreglos cuando eran diferentes" );
     }
 
+    @Test
+    void testSinMayusculasOMinusculasConCambios( )
+    {
+        vacio.agregarCadena( "Hola" );
+        vacio.agregarCadena( "HOLA" );
+        vacio.agregarCadena( "otra" );
+        assertTrue( vacio.contieneSinMayusculasOMinusculas( "hola" ), "La cadena debería estar en el conjunto" );
+
+        vacio.agregarCadena( "hola" );
+        vacio.eliminarCadena( "HOLA" );
+        vacio.eliminarCadenaSinMayusculasOMinusculas( "hOlA" );
+        assertEquals( 1, vacio.getCantidadCadenas( ), "Deberían haberse eliminado todas las variantes" );
+        assertFalse( vacio.contieneSinMayusculasOMinusculas( "HOLA" ), "La cadena no debería estar en el conjunto" );
+
+        vacio.eliminarPrimera( );
+        assertFalse( vacio.contieneSinMayusculasOMinusculas( "OTRA" ), "El índice no se actualizó al eliminar la primera cadena" );
+    }
+
+    @Test
+    void testSinMayusculasOMinusculasSuplementarios( )
+    {
+        // U+10400 y U+10428 son la mayúscula y la minúscula de una letra del alfabeto deseret, fuera del plano básico
+        vacio.agregarCadena( "x\uD801\uDC00" );
+        assertTrue( vacio.contieneSinMayusculasOMinusculas( "X\uD801\uDC28" ), "Las variantes con caracteres suplementarios deberían encontrarse" );
+        vacio.eliminarCadenaSinMayusculasOMinusculas( "x\uD801\uDC28" );
+        assertEquals( 0, vacio.getCantidadCadenas( ), "La variante con caracteres suplementarios debería haberse eliminado" );
+    }
+
 }
@@ -0,0 +1,124 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ComparadorColacion;
+import uniandes.dpoo.estructuras.logica.SandboxConjuntos;
+
+class TestSandboxConjuntosColacion
+{
+    private static final Locale ESPANIOL = Locale.forLanguageTag( "es" );
+
+    private SandboxConjuntos sencillo;
+
+    private static final String[] cadenasSencillas = new String[]{ "oso", "Zorro", "ñandú", "árbol", "nube", "arco", "ola", "nube" };
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        sencillo = new SandboxConjuntos( ESPANIOL );
+        for( int i = 0; i < cadenasSencillas.length; i++ )
+        {
+            sencillo.agregarCadena( cadenasSencillas[ i ] );
+        }
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        sencillo = null;
+    }
+
+    @Test
+    void testOrdenColacion( )
+    {
+        List<String> esperadas = Arrays.asList( "árbol", "arco", "nube", "ñandú", "ola", "oso", "Zorro" );
+        assertEquals( 7, sencillo.getCantidadCadenas( ), "La cantidad de cadenas no es correcta" );
+        assertEquals( esperadas, sencillo.getCadenasComoLista( ), "Las cadenas no siguen el orden del idioma" );
+        assertEquals( "árbol", sencillo.getPrimera( ), "La primera cadena no es la correcta" );
+        assertEquals( "Zorro", sencillo.getUltima( ), "La última cadena no es la correcta" );
+        assertEquals( Arrays.asList( "ñandú", "ola", "oso", "Zorro" ), new ArrayList<String>( sencillo.getSiguientes( "ñ" ) ),
+                "Los siguientes no siguen el orden del idioma" );
+        assertEquals( 3, sencillo.getRango( "ñandú" ), "El rango no sigue el orden del idioma" );
+        assertEquals( "ñandú", sencillo.getPorPosicion( 3 ), "La cadena en la posición no es la correcta" );
+        assertEquals( 2, sencillo.contarEntre( "n", "o" ), "El conteo en el intervalo no es correcto" );
+    }
+
+    @Test
+    void testModificaciones( )
+    {
+        sencillo.getRango( "a" );
+        sencillo.agregarCadena( "ñu" );
+        sencillo.eliminarCadena( "ola" );
+        sencillo.eliminarPrimera( );
+        assertEquals( Arrays.asList( "arco", "nube", "ñandú", "ñu", "oso", "Zorro" ), sencillo.getCadenasComoLista( ), "Las modificaciones no son correctas" );
+        assertEquals( 3, sencillo.getRango( "ñu" ), "El índice de orden no se actualizó" );
+
+        sencillo.volverMayusculas( );
+        assertEquals( Arrays.asList( "ARCO", "NUBE", "ÑANDÚ", "ÑU", "OSO", "ZORRO" ), sencillo.getCadenasComoLista( ), "Las mayúsculas no siguen el orden del idioma" );
+
+        sencillo.reiniciarConjuntoCadenas( new ArrayList<Object>( Arrays.asList( "ñ", "o", "n", "o" ) ) );
+        assertEquals( Arrays.asList( "n", "ñ", "o" ), sencillo.getCadenasComoLista( ), "El reinicio no sigue el orden del idioma" );
+    }
+
+    @Test
+    void testCompararElementos( )
+    {
+        assertTrue( sencillo.compararElementos( new String[]{ "Zorro", "ñandú", "arco", "árbol", "oso", "ola", "nube" } ), "Todos los elementos están en el conjunto" );
+        assertFalse( sencillo.compararElementos( new String[]{ "ñandú", "zorro" } ), "'zorro' no está en el conjunto" );
+    }
+
+    @Test
+    void testAlgebra( )
+    {
+        SandboxConjuntos lexicografico = new SandboxConjuntos( );
+        lexicografico.agregarCadena( "ñu" );
+        lexicografico.agregarCadena( "nube" );
+        lexicografico.agregarCadena( "Zorro" );
+
+        assertEquals( Arrays.asList( "árbol", "arco", "nube", "ñandú", "ñu", "ola", "oso", "Zorro" ), sencillo.unir( lexicografico ).getCadenasComoLista( ),
+                "La unión no sigue el orden del idioma" );
+        assertEquals( Arrays.asList( "nube", "Zorro" ), sencillo.intersectar( lexicografico ).getCadenasComoLista( ), "La intersección no es correcta" );
+        assertEquals( Arrays.asList( "Zorro", "nube" ), lexicografico.intersectar( sencillo ).getCadenasComoLista( ),
+                "El resultado debería estar en el orden del primer conjunto" );
+
+        SandboxConjuntos union = sencillo.unir( lexicografico );
+        union.agregarCadena( "ñame" );
+        assertEquals( 5, union.getRango( "ñu" ), "El resultado debería seguir en modo de colación" );
+    }
+
+    @Test
+    void testCopiaCompacta( )
+    {
+        assertEquals( Arrays.asList( "Zorro", "arco", "nube", "ola", "oso", "árbol", "ñandú" ), sencillo.getCopiaCompacta( ),
+                "La copia compacta debería estar en orden lexicográfico" );
+    }
+
+    @Test
+    void testComparador( )
+    {
+        ComparadorColacion comparador = new ComparadorColacion( ESPANIOL );
+        assertTrue( comparador.compare( "nube", "ñandú" ) < 0, "'n' debería ir antes de 'ñ'" );
+        assertTrue( comparador.compare( "ñandú", "ola" ) < 0, "'ñ' debería ir antes de 'o'" );
+        comparador.registrar( "árbol" );
+        assertTrue( comparador.compare( "árbol", "arco" ) < 0, "Las tildes no deberían cambiar el orden de las letras" );
+        comparador.olvidar( "árbol" );
+        assertTrue( comparador.compare( "árbol", "arco" ) < 0, "El resultado no debería depender de las llaves registradas" );
+        assertEquals( 0, comparador.compare( "oso", "oso" ), "Las cadenas iguales deberían ser iguales" );
+        assertNotEquals( 0, comparador.compare( "oso", "Oso" ), "Sólo las cadenas iguales deberían ser iguales" );
+        assertTrue( comparador.mismoOrden( new ComparadorColacion( Locale.forLanguageTag( "es" ) ) ), "Los dos comparadores ordenan igual" );
+        assertFalse( comparador.mismoOrden( null ), "El orden natural es diferente" );
+    }
+}
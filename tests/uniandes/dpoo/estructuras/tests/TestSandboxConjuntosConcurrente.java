@@ -0,0 +1,121 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.SandboxConjuntos;
+
+class TestSandboxConjuntosConcurrente
+{
+    private SandboxConjuntos sencillo;
+
+    private static final String[] cadenasSencillas = new String[]{ "a", "a", "B", "c", "d", "e", "a", "d", "c", "B", "a" };
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        sencillo = new SandboxConjuntos( true );
+        for( int i = 0; i < cadenasSencillas.length; i++ )
+        {
+            sencillo.agregarCadena( cadenasSencillas[ i ] );
+        }
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        sencillo = null;
+    }
+
+    @Test
+    void testOperacionesBasicas( )
+    {
+        assertEquals( 5, sencillo.getCantidadCadenas( ), "La cantidad de cadenas no es correcta" );
+        assertEquals( "B", sencillo.getPrimera( ), "La primera cadena no es la correcta" );
+        assertEquals( "e", sencillo.getUltima( ), "La última cadena no es la correcta" );
+        assertEquals( 3, sencillo.getSiguientes( "c" ).size( ), "La cantidad de siguientes no es correcta" );
+        assertEquals( Arrays.asList( "c" ), sencillo.getConPrefijo( "c", 10 ), "La consulta por prefijo no es correcta" );
+        assertEquals( Arrays.asList( "d", "B", "a", "c", "e" ), sencillo.buscarSimilares( "d", 1, 10 ), "La búsqueda aproximada no es correcta" );
+        assertTrue( sencillo.contieneSinMayusculasOMinusculas( "b" ), "Debería encontrar 'B' sin tener en cuenta mayúsculas" );
+
+        sencillo.eliminarCadenaSinMayusculasOMinusculas( "A" );
+        assertFalse( sencillo.contieneSinMayusculasOMinusculas( "a" ), "No eliminó la cadena sin tener en cuenta mayúsculas" );
+
+        SandboxConjuntos vacio = new SandboxConjuntos( true );
+        assertNull( vacio.getPrimera( ), "La primera cadena de un conjunto vacío debería ser null" );
+        assertNull( vacio.getUltima( ), "La última cadena de un conjunto vacío debería ser null" );
+        vacio.eliminarPrimera( );
+        assertEquals( 0, vacio.getCantidadCadenas( ), "Eliminar la primera de un conjunto vacío no debería hacer nada" );
+    }
+
+    @Test
+    void testTransformacionesConservanElModo( ) throws Exception
+    {
+        sencillo.volverMayusculas( );
+        assertEquals( Arrays.asList( "A", "B", "C", "D", "E" ), sencillo.getCadenasComoLista( ), "Las cadenas no quedaron en mayúsculas" );
+
+        sencillo.reiniciarConjuntoCadenas( Arrays.asList( (Object)"z", "y", "z" ) );
+        assertEquals( Arrays.asList( "y", "z" ), sencillo.getCadenasComoLista( ), "El conjunto no se reinició correctamente" );
+
+        // Si el conjunto siguiera siendo un TreeSet, recorrer getSiguientes mientras otro hilo agrega cadenas fallaría con ConcurrentModificationException
+        Thread escritor = new Thread( ( ) -> {
+            for( int i = 0; i < 20000; i++ )
+            {
+                sencillo.agregarCadena( "x" + i );
+            }
+        } );
+        escritor.start( );
+        while( escritor.isAlive( ) )
+        {
+            for( String cadena : sencillo.getSiguientes( "x" ) )
+            {
+                assertTrue( cadena.compareTo( "x" ) >= 0, "La vista tiene una cadena menor a la pedida: " + cadena );
+            }
+        }
+        escritor.join( );
+        assertEquals( 20002, sencillo.getCantidadCadenas( ), "Se perdieron cadenas agregadas" );
+    }
+
+    @Test
+    void testEliminarPrimeraEsAtomica( ) throws Exception
+    {
+        final int cantidad = 20000;
+        final int hilos = 4;
+        for( int i = 0; i < cantidad; i++ )
+        {
+            sencillo.agregarCadena( "n" + i );
+        }
+        int total = sencillo.getCantidadCadenas( );
+
+        // Si dos hilos pudieran eliminar la misma primera cadena, quedarían más cadenas de las esperadas
+        List<Thread> trabajadores = new ArrayList<Thread>( );
+        for( int h = 0; h < hilos; h++ )
+        {
+            trabajadores.add( new Thread( ( ) -> {
+                for( int i = 0; i < total / hilos; i++ )
+                {
+                    sencillo.eliminarPrimera( );
+                }
+            } ) );
+        }
+        for( Thread trabajador : trabajadores )
+        {
+            trabajador.start( );
+        }
+        for( Thread trabajador : trabajadores )
+        {
+            trabajador.join( );
+        }
+        assertEquals( total % hilos, sencillo.getCantidadCadenas( ), "Se eliminaron más o menos cadenas de las pedidas" );
+    }
+}
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import uniandes.dpoo.estructuras.logica.GeneradorEnteros;
 import uniandes.dpoo.estructuras.logica.SandboxListas;
 
 class TestSandboxListas
@@ -659,4 +660,32 @@ class TestSandboxListas
             fail( "Los valores no están bien distribuidos" );
     }
 
+    @Test
+    void testReiniciarConFlujo( )
+    {
+        int cantidad = sencillo.reiniciarConFlujo( GeneradorEnteros.flujo( 100000000L, -10, 10 ), 10000 );
+
+        assertEquals( 10000, cantidad, "La cantidad de valores retornada no es correcta" );
+        assertEquals( 10000, sencillo.getCantidadEnteros( ), "La cantidad de elementos no es correcta" );
+        for( Integer valor : sencillo.getCopiaEnteros( ) )
+        {
+            assertTrue( valor >= -10 && valor <= 10, "Se generó un valor por fuera del rango: " + valor );
+        }
+    }
+
+    @Test
+    void testHistogramaFlujo( )
+    {
+        long[] histograma = GeneradorEnteros.histograma( GeneradorEnteros.flujo( 210000, -10, 10 ).parallel( ), -10, 10 );
+
+        long total = 0;
+        for( long cantidad : histograma )
+        {
+            total += cantidad;
+            if( cantidad < 10000 * 0.8 )
+                fail( "Los valores no están bien distribuidos" );
+        }
+        assertEquals( 210000, total, "El histograma no cuenta todos los valores" );
+    }
+
 }
@@ -0,0 +1,101 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.SandboxListasConcurrente;
+
+class TestSandboxListasConcurrente
+{
+    private SandboxListasConcurrente sencillo;
+
+    private static final int[] enterosSencillos = new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9 };
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        sencillo = new SandboxListasConcurrente( );
+        for( int i = 0; i < enterosSencillos.length; i++ )
+        {
+            sencillo.agregarEntero( enterosSencillos[ i ] );
+        }
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        sencillo = null;
+    }
+
+    @Test
+    void testConsultasOptimistas( )
+    {
+        assertEquals( 3, sencillo.contarApariciones( 6 ), "La cantidad de apariciones no es correcta" );
+        assertTrue( sencillo.compararArregloEnteros( enterosSencillos ), "El arreglo debería ser igual a la lista" );
+        assertFalse( sencillo.compararArregloEnteros( new int[]{ 9, 8 } ), "El arreglo no debería ser igual a la lista" );
+
+        List<Integer> copia = sencillo.getCopiaEnteros( );
+        assertEquals( enterosSencillos.length, copia.size( ), "La copia no tiene la cantidad de elementos esperados" );
+    }
+
+    @Test
+    void testEscriturasConcurrentes( ) throws Exception
+    {
+        final int hilos = 4;
+        final int porHilo = 5000;
+        List<Thread> escritores = new ArrayList<Thread>( );
+        for( int h = 0; h < hilos; h++ )
+        {
+            escritores.add( new Thread( ( ) -> {
+                for( int i = 0; i < porHilo; i++ )
+                {
+                    sencillo.agregarEntero( 100 );
+                }
+            } ) );
+        }
+        // Un assert dentro del lector sólo terminaría ese hilo, así que el primer fallo se guarda y se revisa en el hilo de la prueba
+        AtomicReference<Throwable> falloLector = new AtomicReference<Throwable>( );
+        Thread lector = new Thread( ( ) -> {
+            try
+            {
+                for( int i = 0; i < 2000; i++ )
+                {
+                    int apariciones = sencillo.contarApariciones( 100 );
+                    if( apariciones < 0 || apariciones > hilos * porHilo )
+                    {
+                        throw new AssertionError( "Se leyó una cantidad imposible: " + apariciones );
+                    }
+                }
+            }
+            catch( Throwable fallo )
+            {
+                falloLector.set( fallo );
+            }
+        } );
+
+        lector.start( );
+        for( Thread escritor : escritores )
+        {
+            escritor.start( );
+        }
+        for( Thread escritor : escritores )
+        {
+            escritor.join( );
+        }
+        lector.join( );
+
+        assertNull( falloLector.get( ), "El lector falló: " + falloLector.get( ) );
+        assertEquals( enterosSencillos.length + hilos * porHilo, sencillo.getCantidadEnteros( ), "Se perdieron elementos agregados en paralelo" );
+        assertEquals( hilos * porHilo, sencillo.contarApariciones( 100 ), "La cantidad de apariciones no es correcta" );
+    }
+}
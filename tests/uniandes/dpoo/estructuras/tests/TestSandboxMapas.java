@@ -205,6 +205,42 @@ class TestSandboxMapas
         }
     }
 
+    @Test
+    void testValoresOrdenadosSincronizados( )
+    {
+        vacio.reiniciarMapaCadenas( Arrays.asList( "ab", "zz" ) );
+        vacio.agregarCadena( "ab" );
+        assertEquals( Arrays.asList( "ab", "ab", "zz" ), vacio.getValoresComoLista( ), "Los valores repetidos deberían aparecer dos veces" );
+
+        vacio.eliminarCadenaConLLave( "zz" );
+        assertEquals( "ab", vacio.getUltima( ), "La última cadena no se actualizó al eliminar" );
+        vacio.eliminarCadenaConLLave( "ba" );
+        assertEquals( Arrays.asList( "ab" ), vacio.getValoresComoLista( ), "Debería quedar una aparición del valor" );
+        vacio.eliminarCadenaConValor( "ab" );
+        assertEquals( null, vacio.getPrimera( ), "El mapa debería quedar vacío" );
+
+        vacio.agregarCadena( "ab" );
+        vacio.agregarCadena( "aB" );
+        vacio.volverMayusculas( );
+        assertEquals( 1, vacio.getValoresComoLista( ).size( ), "Las llaves que quedan iguales en mayúsculas deberían conservar un solo valor" );
+        assertEquals( vacio.getPrimera( ), vacio.getUltima( ), "Sólo debería quedar un valor" );
+    }
+
+    @Test
+    void testIndiceInversoSincronizado( )
+    {
+        sencillo.eliminarCadenaConLLave( "eB" );
+        assertFalse( sencillo.compararValores( new String[]{ "Be" } ), "El valor de la llave eliminada no debería estar en el mapa" );
+        sencillo.eliminarCadenaConValor( "aa" );
+        assertFalse( sencillo.compararValores( new String[]{ "aa" } ), "El valor eliminado no debería estar en el mapa" );
+        assertEquals( Arrays.asList( "BB", "aaa", "cc", "dd", "ee" ), sencillo.getValoresComoLista( ), "Los valores restantes no son los esperados" );
+
+        sencillo.volverMayusculas( );
+        assertTrue( sencillo.compararValores( new String[]{ "BB", "aaa", "cc", "dd", "ee" } ), "Los valores no deberían cambiar con las llaves en mayúsculas" );
+        sencillo.eliminarCadenaConValor( "cc" );
+        assertEquals( Arrays.asList( "BB", "aaa", "dd", "ee" ), sencillo.getValoresComoLista( ), "No se eliminó el valor después de cambiar las llaves" );
+    }
+
     @Test
     void testCompararValores( )
     {
@@ -0,0 +1,176 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.SandboxMapas;
+import uniandes.dpoo.estructuras.logica.SandboxMapasConcurrente;
+
+class TestSandboxMapasConcurrente
+{
+    private SandboxMapasConcurrente sencillo;
+
+    private static final String[] cadenasSencillas = new String[]{ "aa", "aa", "Be", "cc", "dd", "ee", "aa", "dd", "cc", "BB", "aaa" };
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        sencillo = new SandboxMapasConcurrente( );
+        for( int i = 0; i < cadenasSencillas.length; i++ )
+        {
+            sencillo.agregarCadena( cadenasSencillas[ i ] );
+        }
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        sencillo = null;
+    }
+
+    @Test
+    void testMismoComportamientoQueSandboxMapas( )
+    {
+        SandboxMapas secuencial = new SandboxMapas( );
+        for( String cadena : cadenasSencillas )
+        {
+            secuencial.agregarCadena( cadena );
+        }
+        assertEquals( secuencial.getValoresComoLista( ), sencillo.getValoresComoLista( ), "Los valores no son los mismos" );
+        assertEquals( secuencial.getLlavesComoListaInvertida( ), sencillo.getLlavesComoListaInvertida( ), "Las llaves no son las mismas" );
+        assertEquals( secuencial.getPrimera( ), sencillo.getPrimera( ), "La primera cadena no es la misma" );
+        assertEquals( secuencial.getUltima( ), sencillo.getUltima( ), "La última cadena no es la misma" );
+        assertEquals( secuencial.getCantidadCadenasDiferentes( ), sencillo.getCantidadCadenasDiferentes( ), "La cantidad de valores diferentes no es la misma" );
+        assertTrue( sencillo.compararValores( cadenasSencillas ), "Todos los valores están en el mapa" );
+        assertFalse( sencillo.compararValores( new String[]{ "eB" } ), "Las llaves no son valores" );
+
+        sencillo.eliminarCadenaConLLave( "eB" );
+        sencillo.eliminarCadenaConValor( "aa" );
+        assertEquals( Arrays.asList( "BB", "aaa", "cc", "dd", "ee" ), sencillo.getValoresComoLista( ), "Las eliminaciones no son correctas" );
+
+        sencillo.volverMayusculas( );
+        assertEquals( Arrays.asList( "EE", "DD", "CC", "BB", "AAA" ), sencillo.getLlavesComoListaInvertida( ), "Las llaves no quedaron en mayúsculas" );
+
+        sencillo.reiniciarMapaCadenas( Arrays.asList( "x", "y", "x" ) );
+        assertEquals( 2, sencillo.getCantidadCadenasDiferentes( ), "El reinicio no es correcto" );
+
+        SandboxMapasConcurrente vacio = new SandboxMapasConcurrente( );
+        assertNull( vacio.getPrimera( ), "La primera cadena de un mapa vacío debería ser null" );
+        assertNull( vacio.getUltima( ), "La última cadena de un mapa vacío debería ser null" );
+    }
+
+    @Test
+    void testTransformacionAtomica( ) throws Exception
+    {
+        List<Object> objetos = new ArrayList<Object>( );
+        for( int i = 0; i < 20000; i++ )
+        {
+            objetos.add( "llave" + i );
+        }
+        AtomicBoolean mezcla = new AtomicBoolean( false );
+        AtomicBoolean terminar = new AtomicBoolean( false );
+        Thread lector = new Thread( ( ) -> {
+            while( !terminar.get( ) )
+            {
+                List<String> llaves = sencillo.getLlavesComoListaInvertida( );
+                boolean minusculas = false;
+                boolean mayusculas = false;
+                for( String llave : llaves )
+                {
+                    minusculas |= llave.startsWith( "llave" );
+                    mayusculas |= llave.startsWith( "LLAVE" );
+                }
+                if( minusculas && mayusculas )
+                {
+                    mezcla.set( true );
+                }
+            }
+        } );
+        lector.start( );
+        for( int repeticion = 0; repeticion < 5; repeticion++ )
+        {
+            sencillo.reiniciarMapaCadenas( objetos );
+            sencillo.volverMayusculas( );
+        }
+        terminar.set( true );
+        lector.join( );
+        assertFalse( mezcla.get( ), "Un lector vio llaves del mapa anterior y del nuevo al mismo tiempo" );
+    }
+
+    @Test
+    void testAgregarDesdeVariosHilos( ) throws Exception
+    {
+        SandboxMapasConcurrente mapa = new SandboxMapasConcurrente( );
+        int hilos = 4;
+        int porHilo = 5000;
+        List<Thread> trabajadores = new ArrayList<Thread>( );
+        for( int h = 0; h < hilos; h++ )
+        {
+            int inicio = h * porHilo;
+            trabajadores.add( new Thread( ( ) -> {
+                for( int i = inicio; i < inicio + porHilo; i++ )
+                {
+                    mapa.agregarCadena( "cadena" + i );
+                }
+            } ) );
+        }
+        for( Thread trabajador : trabajadores )
+        {
+            trabajador.start( );
+        }
+        mapa.volverMayusculas( );
+        for( Thread trabajador : trabajadores )
+        {
+            trabajador.join( );
+        }
+        assertEquals( hilos * porHilo, mapa.getCantidadCadenasDiferentes( ), "Se perdieron cadenas agregadas mientras se transformaba el mapa" );
+    }
+
+    @Test
+    void testIndiceDeValoresConEscriturasConcurrentes( ) throws Exception
+    {
+        SandboxMapasConcurrente mapa = new SandboxMapasConcurrente( );
+        List<Thread> trabajadores = new ArrayList<Thread>( );
+        for( int h = 0; h < 4; h++ )
+        {
+            int semilla = h;
+            trabajadores.add( new Thread( ( ) -> {
+                for( int i = 0; i < 5000; i++ )
+                {
+                    String cadena = "v" + ( ( i * 31 + semilla ) % 700 );
+                    if( i % 3 == 2 )
+                        mapa.eliminarCadenaConLLave( new StringBuilder( cadena ).reverse( ).toString( ) );
+                    else
+                        mapa.agregarCadena( cadena );
+                }
+            } ) );
+        }
+        for( Thread trabajador : trabajadores )
+        {
+            trabajador.start( );
+        }
+        for( Thread trabajador : trabajadores )
+        {
+            trabajador.join( );
+        }
+        List<String> valores = mapa.getValoresComoLista( );
+        assertEquals( new HashSet<String>( valores ).size( ), mapa.getCantidadCadenasDiferentes( ), "El índice de valores no coincide con el mapa" );
+        assertTrue( mapa.compararValores( valores.toArray( new String[0] ) ), "Todos los valores del mapa deberían estar en el índice" );
+
+        mapa.eliminarCadenaConValor( valores.get( 0 ) );
+        assertFalse( mapa.compararValores( new String[]{ valores.get( 0 ) } ), "El valor eliminado no debería estar en el índice" );
+        assertEquals( new HashSet<String>( mapa.getValoresComoLista( ) ).size( ), mapa.getCantidadCadenasDiferentes( ), "El índice no se actualizó al eliminar por valor" );
+    }
+}
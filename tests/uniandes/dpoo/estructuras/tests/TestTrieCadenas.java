@@ -0,0 +1,187 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.SandboxConjuntos;
+import uniandes.dpoo.estructuras.logica.TrieCadenas;
+
+class TestTrieCadenas
+{
+    private TrieCadenas trie;
+    private TreeSet<String> esperado;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        trie = new TrieCadenas( );
+        esperado = new TreeSet<String>( );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        trie = null;
+        esperado = null;
+    }
+
+    private static String cadenaAleatoria( Random aleatorio )
+    {
+        int largo = aleatorio.nextInt( 6 );
+        StringBuilder cadena = new StringBuilder( );
+        for( int i = 0; i < largo; i++ )
+        {
+            cadena.append( (char) ( 'a' + aleatorio.nextInt( 3 ) ) );
+        }
+        return cadena.toString( );
+    }
+
+    private List<String> filtrarPorPrefijo( String prefijo, int limite )
+    {
+        List<String> resultado = new ArrayList<String>( );
+        for( String cadena : esperado.tailSet( prefijo ) )
+        {
+            if( !cadena.startsWith( prefijo ) || resultado.size( ) == limite )
+                break;
+            resultado.add( cadena );
+        }
+        return resultado;
+    }
+
+    private static int distancia( String una, String otra )
+    {
+        int[][] tabla = new int[una.length( ) + 1][otra.length( ) + 1];
+        for( int i = 0; i <= una.length( ); i++ )
+        {
+            for( int j = 0; j <= otra.length( ); j++ )
+            {
+                if( i == 0 || j == 0 )
+                    tabla[ i ][ j ] = i + j;
+                else
+                    tabla[ i ][ j ] = Math.min( Math.min( tabla[ i - 1 ][ j ], tabla[ i ][ j - 1 ] ) + 1,
+                            tabla[ i - 1 ][ j - 1 ] + ( una.charAt( i - 1 ) == otra.charAt( j - 1 ) ? 0 : 1 ) );
+            }
+        }
+        return tabla[ una.length( ) ][ otra.length( ) ];
+    }
+
+    private List<String> filtrarSimilares( String consulta, int maxDistancia, int limite )
+    {
+        List<String> resultado = new ArrayList<String>( );
+        for( int d = 0; d <= maxDistancia; d++ )
+        {
+            for( String cadena : esperado )
+            {
+                if( resultado.size( ) < limite && distancia( consulta, cadena ) == d )
+                    resultado.add( cadena );
+            }
+        }
+        return resultado;
+    }
+
+    @Test
+    void testAgregarYEliminar( )
+    {
+        Random aleatorio = new Random( 3 );
+        for( int i = 0; i < 5000; i++ )
+        {
+            String cadena = cadenaAleatoria( aleatorio );
+            if( aleatorio.nextBoolean( ) )
+                assertEquals( esperado.add( cadena ), trie.agregar( cadena ), "No se agregó correctamente " + cadena );
+            else
+                assertEquals( esperado.remove( cadena ), trie.eliminar( cadena ), "No se eliminó correctamente " + cadena );
+
+            String prefijo = cadenaAleatoria( aleatorio );
+            assertEquals( filtrarPorPrefijo( prefijo, 5 ), trie.getConPrefijo( prefijo, 5 ), "Las cadenas con el prefijo '" + prefijo + "' no son las esperadas" );
+        }
+        assertEquals( esperado.size( ), trie.getTamanio( ), "La cantidad de cadenas no es correcta" );
+        for( String cadena : esperado )
+        {
+            assertTrue( trie.contiene( cadena ), "Falta la cadena " + cadena );
+        }
+        assertEquals( new ArrayList<String>( esperado ), trie.getConPrefijo( "", Integer.MAX_VALUE ), "El recorrido completo no está en orden" );
+    }
+
+    @Test
+    void testBuscarSimilares( )
+    {
+        Random aleatorio = new Random( 5 );
+        for( int i = 0; i < 2000; i++ )
+        {
+            String cadena = cadenaAleatoria( aleatorio );
+            if( aleatorio.nextInt( 3 ) > 0 )
+            {
+                esperado.add( cadena );
+                trie.agregar( cadena );
+            }
+            else
+            {
+                esperado.remove( cadena );
+                trie.eliminar( cadena );
+            }
+
+            String consulta = cadenaAleatoria( aleatorio );
+            int maxDistancia = aleatorio.nextInt( 3 );
+            int limite = 1 + aleatorio.nextInt( 8 );
+            assertEquals( filtrarSimilares( consulta, maxDistancia, limite ), trie.buscarSimilares( consulta, maxDistancia, limite ),
+                    "Las cadenas similares a '" + consulta + "' no son las esperadas" );
+        }
+    }
+
+    @Test
+    void testPrefijoEnMedioDeUnArco( )
+    {
+        trie.agregar( "autocompletar" );
+        trie.agregar( "automovil" );
+        trie.agregar( "avion" );
+
+        assertEquals( Arrays.asList( "autocompletar", "automovil" ), trie.getConPrefijo( "aut", 10 ), "Las cadenas con el prefijo no son las esperadas" );
+        assertEquals( Arrays.asList( "automovil" ), trie.getConPrefijo( "automo", 10 ), "Las cadenas con el prefijo no son las esperadas" );
+        assertEquals( 0, trie.getConPrefijo( "autx", 10 ).size( ), "No debería haber cadenas con el prefijo" );
+    }
+
+    @Test
+    void testSandboxConPrefijo( )
+    {
+        SandboxConjuntos sandbox = new SandboxConjuntos( );
+        sandbox.agregarCadena( "casa" );
+        sandbox.agregarCadena( "casco" );
+        sandbox.agregarCadena( "perro" );
+        assertEquals( Arrays.asList( "casa", "casco" ), sandbox.getConPrefijo( "cas", 10 ), "Las cadenas con el prefijo no son las esperadas" );
+
+        sandbox.agregarCadena( "cascada" );
+        sandbox.eliminarCadena( "casa" );
+        assertEquals( Arrays.asList( "cascada", "casco" ), sandbox.getConPrefijo( "cas", 10 ), "El índice no se actualizó con los cambios" );
+        assertEquals( Arrays.asList( "cascada" ), sandbox.getConPrefijo( "cas", 1 ), "No se respetó el límite" );
+
+        sandbox.volverMayusculas( );
+        assertEquals( Arrays.asList( "CASCADA", "CASCO" ), sandbox.getConPrefijo( "CAS", 10 ), "El índice no se reconstruyó" );
+    }
+
+    @Test
+    void testSandboxSimilares( )
+    {
+        SandboxConjuntos sandbox = new SandboxConjuntos( );
+        sandbox.agregarCadena( "casa" );
+        sandbox.agregarCadena( "caza" );
+        sandbox.agregarCadena( "cosa" );
+        sandbox.agregarCadena( "perro" );
+        assertEquals( Arrays.asList( "casa", "caza", "cosa" ), sandbox.buscarSimilares( "casa", 1, 10 ), "Las cadenas similares no son las esperadas" );
+        assertEquals( Arrays.asList( "casa", "caza" ), sandbox.buscarSimilares( "casa", 1, 2 ), "Las más cercanas deberían ir primero" );
+
+        sandbox.eliminarCadena( "casa" );
+        sandbox.agregarCadena( "cesa" );
+        assertEquals( Arrays.asList( "caza", "cesa", "cosa" ), sandbox.buscarSimilares( "casa", 1, 10 ), "El índice no se actualizó con los cambios" );
+        assertEquals( Arrays.asList( "perro" ), sandbox.buscarSimilares( "pero", 2, 10 ), "No encontró la cadena con un carácter de menos" );
+    }
+}
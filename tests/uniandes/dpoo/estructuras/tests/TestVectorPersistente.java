@@ -0,0 +1,124 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ListaVersionada;
+import uniandes.dpoo.estructuras.logica.SandboxListas;
+import uniandes.dpoo.estructuras.logica.VectorPersistente;
+
+class TestVectorPersistente
+{
+    private VectorPersistente<Integer> vector;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        vector = VectorPersistente.vacio( );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        vector = null;
+    }
+
+    @Test
+    void testAgregarYQuitar( )
+    {
+        List<VectorPersistente<Integer>> versiones = new ArrayList<VectorPersistente<Integer>>( );
+        for( int i = 0; i < 40000; i++ )
+        {
+            versiones.add( vector );
+            vector = vector.agregar( i );
+        }
+        assertEquals( 40000, vector.size( ), "La cantidad de elementos no es correcta" );
+        for( int i = 0; i < 40000; i += 997 )
+        {
+            assertEquals( i, vector.get( i ), "El elemento en la posición no es el esperado" );
+            assertEquals( i, versiones.get( i ).size( ), "Una versión anterior cambió de tamaño" );
+        }
+
+        for( int i = 40000; i > 0; i-- )
+        {
+            assertEquals( i - 1, vector.get( i - 1 ), "El último elemento no es el esperado" );
+            vector = vector.quitarUltimo( );
+        }
+        assertEquals( 0, vector.size( ), "El vector debería estar vacío" );
+        assertEquals( 1500, versiones.get( 1500 ).size( ), "Una versión anterior cambió de tamaño" );
+    }
+
+    @Test
+    void testCambiarConservaVersiones( )
+    {
+        List<Integer> valores = new ArrayList<Integer>( );
+        for( int i = 0; i < 5000; i++ )
+        {
+            valores.add( i );
+        }
+        vector = VectorPersistente.desde( valores );
+        VectorPersistente<Integer> cambiado = vector.cambiar( 1234, -1 ).cambiar( 4999, -2 );
+
+        assertEquals( valores, vector, "El vector original cambió" );
+        assertEquals( -1, cambiado.get( 1234 ), "No se cambió el elemento" );
+        assertEquals( -2, cambiado.get( 4999 ), "No se cambió el elemento de la cola" );
+        assertEquals( 1235, cambiado.get( 1235 ), "Se cambió un elemento que no debía cambiar" );
+    }
+
+    @Test
+    void testSandboxConVersiones( )
+    {
+        SandboxListas sandbox = new SandboxListas( new ListaVersionada<Integer>( ), new ListaVersionada<String>( ) );
+        sandbox.agregarEntero( 1 );
+        sandbox.agregarEntero( -2 );
+        sandbox.agregarCadena( "a" );
+        List<Integer> versionEnteros = sandbox.getVersionEnteros( );
+        List<String> versionCadenas = sandbox.getVersionCadenas( );
+
+        sandbox.volverPositivos( );
+        sandbox.insertarEntero( 0, -1 );
+        sandbox.reiniciarArregloCadenas( Arrays.asList( (Object)"x", "y" ) );
+
+        assertEquals( Arrays.asList( 1, -2 ), versionEnteros, "La versión anterior de los enteros cambió" );
+        assertEquals( Arrays.asList( "a" ), versionCadenas, "La versión anterior de las cadenas cambió" );
+        assertTrue( sandbox.compararArregloEnteros( new int[]{ 0, 1, 2 } ), "La lista de enteros no es la esperada" );
+        assertEquals( Arrays.asList( "x", "y" ), sandbox.getVersionCadenas( ), "La lista de cadenas no es la esperada" );
+    }
+
+    @Test
+    void testInsertarVariosEnPosicion( )
+    {
+        ListaVersionada<Integer> lista = new ListaVersionada<Integer>( );
+        List<Integer> esperada = new ArrayList<Integer>( );
+        for( int i = 0; i < 100; i++ )
+        {
+            lista.add( i );
+            esperada.add( i );
+        }
+        VectorPersistente<Integer> anterior = lista.getVersion( );
+
+        lista.addAll( 40, Arrays.asList( -1, -2, -3 ) );
+        esperada.addAll( 40, Arrays.asList( -1, -2, -3 ) );
+        lista.addAll( 0, Arrays.asList( -4 ) );
+        esperada.addAll( 0, Arrays.asList( -4 ) );
+        lista.addAll( lista.size( ), Arrays.asList( -5, -6 ) );
+        esperada.addAll( esperada.size( ), Arrays.asList( -5, -6 ) );
+        lista.addAll( 10, lista );
+        esperada.addAll( 10, new ArrayList<Integer>( esperada ) );
+        lista.addAll( lista );
+        esperada.addAll( new ArrayList<Integer>( esperada ) );
+
+        assertEquals( esperada, lista, "Los elementos no se insertaron en las posiciones esperadas" );
+        assertEquals( 100, anterior.size( ), "La versión anterior cambió" );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> lista.addAll( lista.size( ) + 1, Arrays.asList( 1 ) ), "La posición no es válida" );
+    }
+}
@@ -0,0 +1,124 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.SandboxConjuntos;
+import uniandes.dpoo.estructuras.logica.VistaListaConjunto;
+
+class TestVistaListaConjunto
+{
+    private SandboxConjuntos sencillo;
+
+    private static final String[] cadenasSencillas = new String[]{ "a", "a", "B", "c", "d", "e", "a", "d", "c", "B", "a" };
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        sencillo = new SandboxConjuntos( );
+        for( int i = 0; i < cadenasSencillas.length; i++ )
+        {
+            sencillo.agregarCadena( cadenasSencillas[ i ] );
+        }
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        sencillo = null;
+    }
+
+    @Test
+    void testVistasDelSandbox( )
+    {
+        List<String> vista = sencillo.getVistaCadenas( );
+        List<String> invertida = sencillo.getVistaCadenasInvertida( );
+        assertEquals( sencillo.getCadenasComoLista( ), vista, "La vista no tiene las cadenas en orden" );
+        assertEquals( sencillo.getCadenasComoListaInvertida( ), invertida, "La vista invertida no tiene las cadenas en orden" );
+        assertEquals( "c", vista.get( 2 ), "La cadena en la posición 2 no es correcta" );
+        assertEquals( "a", invertida.get( 3 ), "La cadena en la posición 3 de la vista invertida no es correcta" );
+
+        // Las vistas son vivas, incluso cuando el sandbox reemplaza el conjunto
+        sencillo.agregarCadena( "aa" );
+        assertEquals( "aa", vista.get( 2 ), "La vista no refleja la cadena agregada" );
+        sencillo.volverMayusculas( );
+        assertEquals( Arrays.asList( "AA", "A", "B", "C", "D", "E" ).size( ), vista.size( ), "La vista no refleja el conjunto nuevo" );
+        assertEquals( "E", invertida.get( 0 ), "La vista invertida no refleja el conjunto nuevo" );
+
+        assertThrows( UnsupportedOperationException.class, ( ) -> vista.add( "x" ) );
+        assertThrows( UnsupportedOperationException.class, ( ) -> vista.remove( 0 ) );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> vista.get( 6 ) );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> vista.get( -1 ) );
+    }
+
+    @Test
+    void testCursorSecuencial( )
+    {
+        TreeSet<Integer> conjunto = new TreeSet<Integer>( );
+        for( int i = 0; i < 1000; i++ )
+        {
+            conjunto.add( i * 2 );
+        }
+        VistaListaConjunto<Integer> vista = new VistaListaConjunto<Integer>( ( ) -> conjunto, false );
+        for( int i = 0; i < 1000; i++ )
+        {
+            assertEquals( i * 2, vista.get( i ), "La posición " + i + " no es correcta" );
+        }
+        assertEquals( 10, vista.get( 5 ), "Volver a una posición anterior debería reiniciar el cursor" );
+
+        // Si el conjunto cambia, el cursor se descarta
+        conjunto.add( 11 );
+        assertEquals( 11, vista.get( 6 ), "La vista no refleja el cambio después de usar el cursor" );
+        assertEquals( 12, vista.get( 7 ), "La vista no refleja el cambio después de usar el cursor" );
+
+        ConcurrentSkipListSet<Integer> concurrente = new ConcurrentSkipListSet<Integer>( conjunto );
+        VistaListaConjunto<Integer> vistaConcurrente = new VistaListaConjunto<Integer>( ( ) -> concurrente, true );
+        assertEquals( 1998, vistaConcurrente.get( 0 ), "La primera posición de la vista invertida no es correcta" );
+        concurrente.add( 5000 );
+        assertEquals( 5000, vistaConcurrente.get( 0 ), "La vista concurrente no refleja el cambio" );
+        assertEquals( 1998, vistaConcurrente.get( 1 ), "La vista concurrente no refleja el cambio" );
+    }
+
+    @Test
+    void testStreamsParalelos( )
+    {
+        for( boolean descendente : new boolean[]{ false, true } )
+        {
+            TreeSet<Integer> conjunto = new TreeSet<Integer>( );
+            ConcurrentSkipListSet<Integer> concurrente = new ConcurrentSkipListSet<Integer>( );
+            for( int i = 0; i < 20000; i++ )
+            {
+                conjunto.add( i );
+                concurrente.add( i );
+            }
+            List<Integer> esperado = new ArrayList<Integer>( conjunto );
+            if( descendente )
+                Collections.reverse( esperado );
+
+            for( VistaListaConjunto<Integer> vista : Arrays.asList( new VistaListaConjunto<Integer>( ( ) -> conjunto, descendente ),
+                    new VistaListaConjunto<Integer>( ( ) -> concurrente, descendente ) ) )
+            {
+                Spliterator<Integer> spliterator = vista.spliterator( );
+                assertTrue( spliterator.trySplit( ) != null, "El spliterator debería poder partirse" );
+                assertEquals( esperado, vista.parallelStream( ).collect( Collectors.toList( ) ), "El stream paralelo no conserva el orden" );
+                assertEquals( 20000L * 19999 / 2, vista.parallelStream( ).mapToLong( Integer::longValue ).sum( ), "La suma en paralelo no es correcta" );
+            }
+        }
+        assertFalse( new VistaListaConjunto<String>( ( ) -> new TreeSet<String>( Arrays.asList( "a" ) ), false ).contains( 3 ), "Una vista de cadenas no contiene enteros" );
+    }
+}